@@ -0,0 +1,160 @@
+package benchmarks;
+
+import EDD.ColaMPSC;
+import EDD.ColaPrioridad;
+import EDD.Lista;
+import EDD.Nodo;
+import EDD.Queue;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Colas en régimen estable: con la cola llena hasta la profundidad dada,
+ * cada operación encola un elemento y despacha otro, como hace el gestor
+ * de procesos con las solicitudes de E/S.
+ *
+ * Con -prof gc, gc.alloc.rate.norm muestra los bytes asignados por
+ * operación: Lista con reserva de nodos y Queue (arreglo circular) deben
+ * quedar en 0, mientras que Lista sin reserva y LinkedList crean un nodo
+ * por operación. Esto mide solo la cola: en GestorProcesos cada solicitud
+ * encolada también crea su entrada en el índice por bloque (SkipList), que
+ * no se reutiliza.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ColasBenchmark {
+
+    private static final int CANTIDAD_VALORES = 1024; // Potencia de 2 para usar máscara
+
+    @Param({"10", "100", "1000", "10000", "100000", "1000000"})
+    private int profundidad;
+
+    private Integer[] valores;
+    private int cursor;
+
+    private Queue<Integer> queue;
+    private ArrayDeque<Integer> arrayDeque;
+    private Lista<Integer> listaSinReserva;
+    private Lista<Integer> listaConReserva;
+    private LinkedList<Integer> linkedList;
+    private ColaMPSC<Integer> colaMPSC;
+    private ConcurrentLinkedQueue<Integer> concurrentLinkedQueue;
+    private ColaPrioridad<Integer> colaPrioridad;
+    private PriorityQueue<Integer> priorityQueue;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        Random random = new Random(42);
+        valores = new Integer[CANTIDAD_VALORES];
+        for (int i = 0; i < CANTIDAD_VALORES; i++) {
+            valores[i] = random.nextInt(1000);
+        }
+
+        queue = new Queue<>();
+        arrayDeque = new ArrayDeque<>();
+        listaSinReserva = new Lista<>();
+        listaConReserva = new Lista<>(256);
+        linkedList = new LinkedList<>();
+        colaMPSC = new ColaMPSC<>();
+        concurrentLinkedQueue = new ConcurrentLinkedQueue<>();
+        colaPrioridad = new ColaPrioridad<>(Comparator.naturalOrder());
+        priorityQueue = new PriorityQueue<>();
+        for (int i = 0; i < profundidad; i++) {
+            Integer valor = siguienteValor();
+            queue.enqueue(valor);
+            arrayDeque.addLast(valor);
+            listaSinReserva.insertarFinal(valor);
+            listaConReserva.insertarFinal(valor);
+            linkedList.addLast(valor);
+            colaMPSC.enqueue(valor);
+            concurrentLinkedQueue.offer(valor);
+            colaPrioridad.insertar(valor);
+            priorityQueue.offer(valor);
+        }
+    }
+
+    private Integer siguienteValor() {
+        return valores[cursor++ & (CANTIDAD_VALORES - 1)];
+    }
+
+    @Benchmark
+    public Integer queue() {
+        queue.enqueue(siguienteValor());
+        return queue.dequeue();
+    }
+
+    @Benchmark
+    public Integer arrayDeque() {
+        arrayDeque.addLast(siguienteValor());
+        return arrayDeque.pollFirst();
+    }
+
+    /**
+     * Camino de las solicitudes pendientes: insertar tomando el manejador y
+     * despachar removiendo por nodo
+     */
+    @Benchmark
+    public Integer listaSinReserva() {
+        listaSinReserva.insertarFinal(siguienteValor());
+        Nodo<Integer> primero = listaSinReserva.getHead();
+        return listaSinReserva.removeNode(primero);
+    }
+
+    @Benchmark
+    public Integer listaConReserva() {
+        listaConReserva.insertarFinal(siguienteValor());
+        Nodo<Integer> primero = listaConReserva.getHead();
+        return listaConReserva.removeNode(primero);
+    }
+
+    @Benchmark
+    public Integer linkedList() {
+        linkedList.addLast(siguienteValor());
+        return linkedList.pollFirst();
+    }
+
+    @Benchmark
+    public Integer colaMPSC() {
+        colaMPSC.enqueue(siguienteValor());
+        return colaMPSC.poll();
+    }
+
+    @Benchmark
+    public Integer concurrentLinkedQueue() {
+        concurrentLinkedQueue.offer(siguienteValor());
+        return concurrentLinkedQueue.poll();
+    }
+
+    @Benchmark
+    public Integer colaPrioridad() {
+        colaPrioridad.insertar(siguienteValor());
+        return colaPrioridad.poll();
+    }
+
+    @Benchmark
+    public Integer priorityQueue() {
+        priorityQueue.offer(siguienteValor());
+        return priorityQueue.poll();
+    }
+}
@@ -0,0 +1,148 @@
+package benchmarks;
+
+import EDD.ArbolRojoNegro;
+import EDD.MapaBits;
+import EDD.SkipList;
+import EDD.TablaHash;
+import EDD.TablaHashInt;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Consultas sobre las estructuras de búsqueda de EDD frente a java.util:
+ * get en las tablas hash, ceiling en los mapas ordenados y búsqueda del
+ * siguiente bit libre en el mapa de bits.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class IndicesBenchmark {
+
+    private static final int CANTIDAD_CONSULTAS = 1024; // Potencia de 2 para usar máscara
+
+    @Param({"10", "100", "1000", "10000", "100000", "1000000"})
+    private int tamano;
+
+    private int[] consultas; // Claves aleatorias en [0, 2 * tamano), la mitad ausentes
+    private Integer[] consultasBoxed;
+    private int cursor;
+
+    private TablaHash<Integer, Integer> tablaHash;
+    private TablaHashInt<Integer> tablaHashInt;
+    private HashMap<Integer, Integer> hashMap;
+    private ArbolRojoNegro<Integer, Integer> arbolRojoNegro;
+    private TreeMap<Integer, Integer> treeMap;
+    private SkipList<Integer> skipList;
+    private ConcurrentSkipListMap<Integer, Integer> concurrentSkipListMap;
+    private MapaBits mapaBits;
+    private BitSet bitSet;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        Random random = new Random(42);
+        consultas = new int[CANTIDAD_CONSULTAS];
+        consultasBoxed = new Integer[CANTIDAD_CONSULTAS];
+        for (int i = 0; i < CANTIDAD_CONSULTAS; i++) {
+            consultas[i] = random.nextInt(2 * tamano);
+            consultasBoxed[i] = consultas[i];
+        }
+
+        tablaHash = new TablaHash<>();
+        tablaHashInt = new TablaHashInt<>();
+        hashMap = new HashMap<>();
+        arbolRojoNegro = new ArbolRojoNegro<>();
+        treeMap = new TreeMap<>();
+        skipList = new SkipList<>();
+        concurrentSkipListMap = new ConcurrentSkipListMap<>();
+        // Claves pares: las consultas impares caen entre dos claves
+        for (int i = 0; i < tamano; i++) {
+            Integer clave = 2 * i;
+            tablaHash.insertar(clave, clave);
+            tablaHashInt.insertar(clave, clave);
+            hashMap.put(clave, clave);
+            arbolRojoNegro.insertar(clave, clave);
+            treeMap.put(clave, clave);
+            skipList.insertar(clave, clave);
+            concurrentSkipListMap.put(clave, clave);
+        }
+
+        // Disco ocupado al 90%, con los huecos repartidos al azar
+        mapaBits = new MapaBits(tamano);
+        bitSet = new BitSet(tamano);
+        for (int i = 0; i < tamano; i++) {
+            if (random.nextInt(10) != 0) {
+                mapaBits.set(i);
+                bitSet.set(i);
+            }
+        }
+    }
+
+    private int siguienteIndice() {
+        return cursor++ & (CANTIDAD_CONSULTAS - 1);
+    }
+
+    @Benchmark
+    public Integer getTablaHash() {
+        return tablaHash.get(consultasBoxed[siguienteIndice()]);
+    }
+
+    @Benchmark
+    public Integer getTablaHashInt() {
+        return tablaHashInt.get(consultas[siguienteIndice()]);
+    }
+
+    @Benchmark
+    public Integer getHashMap() {
+        return hashMap.get(consultasBoxed[siguienteIndice()]);
+    }
+
+    @Benchmark
+    public ArbolRojoNegro.Entrada<Integer, Integer> ceilingArbolRojoNegro() {
+        return arbolRojoNegro.ceiling(consultasBoxed[siguienteIndice()]);
+    }
+
+    @Benchmark
+    public Map.Entry<Integer, Integer> ceilingTreeMap() {
+        return treeMap.ceilingEntry(consultasBoxed[siguienteIndice()]);
+    }
+
+    @Benchmark
+    public Integer ceilingSkipList() {
+        return skipList.ceiling(consultas[siguienteIndice()]);
+    }
+
+    @Benchmark
+    public Map.Entry<Integer, Integer> ceilingConcurrentSkipListMap() {
+        return concurrentSkipListMap.ceilingEntry(consultasBoxed[siguienteIndice()]);
+    }
+
+    @Benchmark
+    public int nextClearBitMapaBits() {
+        return mapaBits.nextClearBit(consultas[siguienteIndice()] >>> 1);
+    }
+
+    @Benchmark
+    public int nextClearBitBitSet() {
+        return bitSet.nextClearBit(consultas[siguienteIndice()] >>> 1);
+    }
+}
@@ -0,0 +1,306 @@
+package benchmarks;
+
+import EDD.Lista;
+import EDD.ListaArreglo;
+import EDD.ListaDesenrollada;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compara Lista, ListaArreglo y ListaDesenrollada con LinkedList y
+ * ArrayList en insertarFinal, get(i), recorrido por índices, remove(T),
+ * indexOf y recorrido con iterador, para listas de 10 a 10^6 elementos.
+ *
+ * Los valores se crean una sola vez en preparar(), así que las asignaciones
+ * que reporta -prof gc son solo las de la estructura (nodos, arreglos).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ListasBenchmark {
+
+    private static final int CANTIDAD_CONSULTAS = 1024; // Potencia de 2 para usar máscara
+
+    @Param({"10", "100", "1000", "10000", "100000", "1000000"})
+    private int tamano;
+
+    private Integer[] valores;
+    private int[] consultas; // Índices aleatorios en [0, tamano)
+    private int cursor;
+
+    private Lista<Integer> lista;
+    private ListaArreglo<Integer> listaArreglo;
+    private ListaDesenrollada<Integer> listaDesenrollada;
+    private LinkedList<Integer> linkedList;
+    private ArrayList<Integer> arrayList;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        valores = new Integer[tamano];
+        for (int i = 0; i < tamano; i++) {
+            valores[i] = i;
+        }
+
+        Random random = new Random(42);
+        consultas = new int[CANTIDAD_CONSULTAS];
+        for (int i = 0; i < CANTIDAD_CONSULTAS; i++) {
+            consultas[i] = random.nextInt(tamano);
+        }
+
+        lista = new Lista<>();
+        listaArreglo = new ListaArreglo<>();
+        listaDesenrollada = new ListaDesenrollada<>();
+        linkedList = new LinkedList<>();
+        arrayList = new ArrayList<>();
+        for (Integer valor : valores) {
+            lista.insertarFinal(valor);
+            listaArreglo.insertarFinal(valor);
+            listaDesenrollada.insertarFinal(valor);
+            linkedList.add(valor);
+            arrayList.add(valor);
+        }
+    }
+
+    private int siguienteConsulta() {
+        return consultas[cursor++ & (CANTIDAD_CONSULTAS - 1)];
+    }
+
+    // insertarFinal: construir una lista completa de tamano elementos
+
+    @Benchmark
+    public Lista<Integer> insertarFinalLista() {
+        Lista<Integer> nueva = new Lista<>();
+        for (Integer valor : valores) {
+            nueva.insertarFinal(valor);
+        }
+        return nueva;
+    }
+
+    @Benchmark
+    public ListaArreglo<Integer> insertarFinalListaArreglo() {
+        ListaArreglo<Integer> nueva = new ListaArreglo<>();
+        for (Integer valor : valores) {
+            nueva.insertarFinal(valor);
+        }
+        return nueva;
+    }
+
+    @Benchmark
+    public ListaDesenrollada<Integer> insertarFinalListaDesenrollada() {
+        ListaDesenrollada<Integer> nueva = new ListaDesenrollada<>();
+        for (Integer valor : valores) {
+            nueva.insertarFinal(valor);
+        }
+        return nueva;
+    }
+
+    @Benchmark
+    public LinkedList<Integer> insertarFinalLinkedList() {
+        LinkedList<Integer> nueva = new LinkedList<>();
+        for (Integer valor : valores) {
+            nueva.add(valor);
+        }
+        return nueva;
+    }
+
+    @Benchmark
+    public ArrayList<Integer> insertarFinalArrayList() {
+        ArrayList<Integer> nueva = new ArrayList<>();
+        for (Integer valor : valores) {
+            nueva.add(valor);
+        }
+        return nueva;
+    }
+
+    // get(i) en una posición aleatoria
+
+    @Benchmark
+    public Integer getLista() {
+        return lista.get(siguienteConsulta());
+    }
+
+    @Benchmark
+    public Integer getListaArreglo() {
+        return listaArreglo.get(siguienteConsulta());
+    }
+
+    @Benchmark
+    public Integer getListaDesenrollada() {
+        return listaDesenrollada.get(siguienteConsulta());
+    }
+
+    @Benchmark
+    public Integer getLinkedList() {
+        return linkedList.get(siguienteConsulta());
+    }
+
+    @Benchmark
+    public Integer getArrayList() {
+        return arrayList.get(siguienteConsulta());
+    }
+
+    // Recorrido completo por índices, for (i) get(i), como recorrían la cola
+    // los planificadores: cuadrático en las listas enlazadas y lineal en las
+    // respaldadas por arreglos. Con Lista y LinkedList en 10^5 y 10^6 cada
+    // invocación tarda minutos; para saltarlos usar -p tamano=10,100,1000,10000
+
+    @Benchmark
+    public void escanearIndicesLista(Blackhole blackhole) {
+        for (int i = 0; i < lista.getSize(); i++) {
+            blackhole.consume(lista.get(i));
+        }
+    }
+
+    @Benchmark
+    public void escanearIndicesListaArreglo(Blackhole blackhole) {
+        for (int i = 0; i < listaArreglo.getSize(); i++) {
+            blackhole.consume(listaArreglo.get(i));
+        }
+    }
+
+    @Benchmark
+    public void escanearIndicesListaDesenrollada(Blackhole blackhole) {
+        for (int i = 0; i < listaDesenrollada.getSize(); i++) {
+            blackhole.consume(listaDesenrollada.get(i));
+        }
+    }
+
+    @Benchmark
+    public void escanearIndicesLinkedList(Blackhole blackhole) {
+        for (int i = 0; i < linkedList.size(); i++) {
+            blackhole.consume(linkedList.get(i));
+        }
+    }
+
+    @Benchmark
+    public void escanearIndicesArrayList(Blackhole blackhole) {
+        for (int i = 0; i < arrayList.size(); i++) {
+            blackhole.consume(arrayList.get(i));
+        }
+    }
+
+    // remove(T) de un valor aleatorio, reinsertándolo al final para
+    // conservar el tamaño
+
+    @Benchmark
+    public boolean removeLista() {
+        Integer valor = valores[siguienteConsulta()];
+        boolean removido = lista.remove(valor);
+        lista.insertarFinal(valor);
+        return removido;
+    }
+
+    @Benchmark
+    public boolean removeListaArreglo() {
+        Integer valor = valores[siguienteConsulta()];
+        boolean removido = listaArreglo.remove(valor);
+        listaArreglo.insertarFinal(valor);
+        return removido;
+    }
+
+    @Benchmark
+    public boolean removeListaDesenrollada() {
+        Integer valor = valores[siguienteConsulta()];
+        boolean removido = listaDesenrollada.remove(valor);
+        listaDesenrollada.insertarFinal(valor);
+        return removido;
+    }
+
+    @Benchmark
+    public boolean removeLinkedList() {
+        Integer valor = valores[siguienteConsulta()];
+        boolean removido = linkedList.remove(valor);
+        linkedList.add(valor);
+        return removido;
+    }
+
+    @Benchmark
+    public boolean removeArrayList() {
+        Integer valor = valores[siguienteConsulta()];
+        boolean removido = arrayList.remove(valor);
+        arrayList.add(valor);
+        return removido;
+    }
+
+    // indexOf de un valor aleatorio
+
+    @Benchmark
+    public int indexOfLista() {
+        return lista.indexOf(valores[siguienteConsulta()]);
+    }
+
+    @Benchmark
+    public int indexOfListaArreglo() {
+        return listaArreglo.indexOf(valores[siguienteConsulta()]);
+    }
+
+    @Benchmark
+    public int indexOfListaDesenrollada() {
+        return listaDesenrollada.indexOf(valores[siguienteConsulta()]);
+    }
+
+    @Benchmark
+    public int indexOfLinkedList() {
+        return linkedList.indexOf(valores[siguienteConsulta()]);
+    }
+
+    @Benchmark
+    public int indexOfArrayList() {
+        return arrayList.indexOf(valores[siguienteConsulta()]);
+    }
+
+    // Recorrido completo con for-each
+
+    @Benchmark
+    public void recorrerLista(Blackhole blackhole) {
+        for (Integer valor : lista) {
+            blackhole.consume(valor);
+        }
+    }
+
+    @Benchmark
+    public void recorrerListaArreglo(Blackhole blackhole) {
+        for (Integer valor : listaArreglo) {
+            blackhole.consume(valor);
+        }
+    }
+
+    @Benchmark
+    public void recorrerListaDesenrollada(Blackhole blackhole) {
+        for (Integer valor : listaDesenrollada) {
+            blackhole.consume(valor);
+        }
+    }
+
+    @Benchmark
+    public void recorrerLinkedList(Blackhole blackhole) {
+        for (Integer valor : linkedList) {
+            blackhole.consume(valor);
+        }
+    }
+
+    @Benchmark
+    public void recorrerArrayList(Blackhole blackhole) {
+        for (Integer valor : arrayList) {
+            blackhole.consume(valor);
+        }
+    }
+}
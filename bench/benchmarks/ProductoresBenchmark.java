@@ -0,0 +1,113 @@
+package benchmarks;
+
+import EDD.ColaMPSC;
+import EDD.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Envío de solicitudes desde varios hilos: en cada grupo, varios
+ * productores encolan mientras un único consumidor despacha, como hacen
+ * enviarSolicitudES y el despachador de GestorProcesos.
+ *
+ * Se compara ColaMPSC con una Queue protegida por synchronized (lo que
+ * habría que hacer sin una cola concurrente) y con ConcurrentLinkedQueue.
+ * El resultado de productor es el envío total del grupo. Por defecto hay 3
+ * productores; para ver cómo escala, repetir con -tg 1,1, -tg 3,1, -tg 7,1,
+ * etc. (productores, consumidor).
+ *
+ * Las colas se crean de nuevo en cada iteración, así que lo que el
+ * consumidor no alcanzó a despachar no se acumula entre iteraciones.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Group)
+public class ProductoresBenchmark {
+
+    private static final int PRODUCTORES = 3;
+    private static final Integer VALOR = 42;
+
+    /**
+     * Queue con todas sus operaciones bajo el mismo monitor
+     */
+    private static final class ColaSincronizada<T> {
+        private final Queue<T> queue = new Queue<>();
+
+        synchronized void enqueue(T dato) {
+            queue.enqueue(dato);
+        }
+
+        synchronized T poll() {
+            return queue.isEmpty() ? null : queue.dequeue();
+        }
+    }
+
+    private ColaMPSC<Integer> colaMPSC;
+    private ColaSincronizada<Integer> colaSincronizada;
+    private ConcurrentLinkedQueue<Integer> concurrentLinkedQueue;
+
+    @Setup(Level.Iteration)
+    public void preparar() {
+        colaMPSC = new ColaMPSC<>();
+        colaSincronizada = new ColaSincronizada<>();
+        concurrentLinkedQueue = new ConcurrentLinkedQueue<>();
+    }
+
+    @Benchmark
+    @Group("colaMPSC")
+    @GroupThreads(PRODUCTORES)
+    public void productorColaMPSC() {
+        colaMPSC.enqueue(VALOR);
+    }
+
+    @Benchmark
+    @Group("colaMPSC")
+    @GroupThreads(1)
+    public Integer consumidorColaMPSC() {
+        return colaMPSC.poll();
+    }
+
+    @Benchmark
+    @Group("colaSincronizada")
+    @GroupThreads(PRODUCTORES)
+    public void productorColaSincronizada() {
+        colaSincronizada.enqueue(VALOR);
+    }
+
+    @Benchmark
+    @Group("colaSincronizada")
+    @GroupThreads(1)
+    public Integer consumidorColaSincronizada() {
+        return colaSincronizada.poll();
+    }
+
+    @Benchmark
+    @Group("concurrentLinkedQueue")
+    @GroupThreads(PRODUCTORES)
+    public void productorConcurrentLinkedQueue() {
+        concurrentLinkedQueue.offer(VALOR);
+    }
+
+    @Benchmark
+    @Group("concurrentLinkedQueue")
+    @GroupThreads(1)
+    public Integer consumidorConcurrentLinkedQueue() {
+        return concurrentLinkedQueue.poll();
+    }
+}
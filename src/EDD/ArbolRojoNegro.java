@@ -0,0 +1,548 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package EDD;
+
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Mapa ordenado implementado como árbol rojo-negro.
+ * insertar, get, remove, ceiling y floor son O(log n) en el peor caso, y
+ * recorrer un rango cuesta O(log n + k) para k elementos. Todas las
+ * operaciones son iterativas, así que la altura del árbol nunca se
+ * traduce en recursión.
+ *
+ * Las entradas retornadas por ceiling, floor o los recorridos son válidas
+ * hasta la siguiente modificación del árbol.
+ *
+ * @param <K>
+ * @param <V>
+ */
+public class ArbolRojoNegro<K, V> implements Iterable<ArbolRojoNegro.Entrada<K, V>> {
+    private static final boolean ROJO = true;
+    private static final boolean NEGRO = false;
+
+    /**
+     * Par clave-valor dentro del árbol
+     */
+    public static final class Entrada<K, V> {
+        private K clave;
+        private V valor;
+        private Entrada<K, V> izquierda;
+        private Entrada<K, V> derecha;
+        private Entrada<K, V> padre;
+        private boolean color = NEGRO;
+
+        private Entrada(K clave, V valor, Entrada<K, V> padre) {
+            this.clave = clave;
+            this.valor = valor;
+            this.padre = padre;
+        }
+
+        public K getClave() {
+            return clave;
+        }
+
+        public V getValor() {
+            return valor;
+        }
+
+        public void setValor(V valor) {
+            this.valor = valor;
+        }
+
+        @Override
+        public String toString() {
+            return clave + "=" + valor;
+        }
+    }
+
+    private Entrada<K, V> raiz;
+    private int size;
+    private int modificaciones; // Cambios estructurales, para iteradores fail-fast
+    private final Comparator<? super K> comparador;
+
+    /**
+     * Crea un árbol ordenado por el orden natural de las claves
+     */
+    @SuppressWarnings("unchecked")
+    public ArbolRojoNegro() {
+        this((a, b) -> ((Comparable<? super K>) a).compareTo(b));
+    }
+
+    public ArbolRojoNegro(Comparator<? super K> comparador) {
+        this.comparador = comparador;
+        this.raiz = null;
+        this.size = 0;
+    }
+
+    /**
+     * Inserta o reemplaza el valor asociado a una clave
+     *
+     * @return El valor anterior, o null si la clave no existía
+     */
+    public V insertar(K clave, V valor) {
+        if (clave == null) {
+            throw new IllegalArgumentException("La clave no puede ser null");
+        }
+
+        Entrada<K, V> padre = null;
+        Entrada<K, V> actual = raiz;
+        int cmp = 0;
+        while (actual != null) {
+            padre = actual;
+            cmp = comparador.compare(clave, actual.clave);
+            if (cmp < 0) {
+                actual = actual.izquierda;
+            } else if (cmp > 0) {
+                actual = actual.derecha;
+            } else {
+                V anterior = actual.valor;
+                actual.valor = valor;
+                return anterior;
+            }
+        }
+
+        Entrada<K, V> nueva = new Entrada<>(clave, valor, padre);
+        if (padre == null) {
+            raiz = nueva;
+        } else if (cmp < 0) {
+            padre.izquierda = nueva;
+        } else {
+            padre.derecha = nueva;
+        }
+        balancearInsercion(nueva);
+        size++;
+        modificaciones++;
+        return null;
+    }
+
+    /**
+     * Retorna el valor asociado a la clave, o null si no existe
+     */
+    public V get(K clave) {
+        Entrada<K, V> entrada = buscar(clave);
+        return entrada == null ? null : entrada.valor;
+    }
+
+    public boolean contains(K clave) {
+        return buscar(clave) != null;
+    }
+
+    /**
+     * Elimina una clave
+     *
+     * @return El valor que tenía asociado, o null si no existía
+     */
+    public V remove(K clave) {
+        Entrada<K, V> entrada = buscar(clave);
+        if (entrada == null) {
+            return null;
+        }
+        V anterior = entrada.valor;
+        eliminarEntrada(entrada);
+        return anterior;
+    }
+
+    /**
+     * Retorna la entrada de menor clave mayor o igual a la dada, o null
+     */
+    public Entrada<K, V> ceiling(K clave) {
+        Entrada<K, V> actual = raiz;
+        Entrada<K, V> mejor = null;
+        while (actual != null) {
+            int cmp = comparador.compare(clave, actual.clave);
+            if (cmp == 0) {
+                return actual;
+            }
+            if (cmp < 0) {
+                mejor = actual;
+                actual = actual.izquierda;
+            } else {
+                actual = actual.derecha;
+            }
+        }
+        return mejor;
+    }
+
+    /**
+     * Retorna la entrada de mayor clave menor o igual a la dada, o null
+     */
+    public Entrada<K, V> floor(K clave) {
+        Entrada<K, V> actual = raiz;
+        Entrada<K, V> mejor = null;
+        while (actual != null) {
+            int cmp = comparador.compare(clave, actual.clave);
+            if (cmp == 0) {
+                return actual;
+            }
+            if (cmp > 0) {
+                mejor = actual;
+                actual = actual.derecha;
+            } else {
+                actual = actual.izquierda;
+            }
+        }
+        return mejor;
+    }
+
+    /**
+     * Retorna la entrada de menor clave, o null si el árbol está vacío
+     */
+    public Entrada<K, V> primera() {
+        return raiz == null ? null : minimo(raiz);
+    }
+
+    /**
+     * Retorna la entrada de mayor clave, o null si el árbol está vacío
+     */
+    public Entrada<K, V> ultima() {
+        Entrada<K, V> actual = raiz;
+        if (actual != null) {
+            while (actual.derecha != null) {
+                actual = actual.derecha;
+            }
+        }
+        return actual;
+    }
+
+    /**
+     * Recorre en orden las entradas con clave entre desde y hasta, ambas
+     * incluidas
+     */
+    public Iterable<Entrada<K, V>> rango(K desde, K hasta) {
+        return () -> new Iterador(ceiling(desde), hasta);
+    }
+
+    /**
+     * Recorre en orden todas las entradas. Falla con
+     * ConcurrentModificationException si el árbol se modifica durante el
+     * recorrido.
+     */
+    @Override
+    public Iterator<Entrada<K, V>> iterator() {
+        return new Iterador(primera(), null);
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void vaciar() {
+        raiz = null;
+        size = 0;
+        modificaciones++;
+    }
+
+    private Entrada<K, V> buscar(K clave) {
+        if (clave == null) {
+            return null;
+        }
+        Entrada<K, V> actual = raiz;
+        while (actual != null) {
+            int cmp = comparador.compare(clave, actual.clave);
+            if (cmp < 0) {
+                actual = actual.izquierda;
+            } else if (cmp > 0) {
+                actual = actual.derecha;
+            } else {
+                return actual;
+            }
+        }
+        return null;
+    }
+
+    private static <K, V> Entrada<K, V> minimo(Entrada<K, V> entrada) {
+        while (entrada.izquierda != null) {
+            entrada = entrada.izquierda;
+        }
+        return entrada;
+    }
+
+    /**
+     * Entrada siguiente en orden, o null si es la última
+     */
+    private static <K, V> Entrada<K, V> sucesor(Entrada<K, V> entrada) {
+        if (entrada.derecha != null) {
+            return minimo(entrada.derecha);
+        }
+        Entrada<K, V> padre = entrada.padre;
+        while (padre != null && entrada == padre.derecha) {
+            entrada = padre;
+            padre = padre.padre;
+        }
+        return padre;
+    }
+
+    /**
+     * Quita una entrada del árbol. Si tiene dos hijos, se le copia su
+     * sucesor y se quita el nodo del sucesor, que tiene a lo sumo un hijo.
+     */
+    private void eliminarEntrada(Entrada<K, V> entrada) {
+        size--;
+        modificaciones++;
+
+        if (entrada.izquierda != null && entrada.derecha != null) {
+            Entrada<K, V> siguiente = sucesor(entrada);
+            entrada.clave = siguiente.clave;
+            entrada.valor = siguiente.valor;
+            entrada = siguiente;
+        }
+
+        Entrada<K, V> reemplazo = entrada.izquierda != null ? entrada.izquierda : entrada.derecha;
+        if (reemplazo != null) {
+            reemplazo.padre = entrada.padre;
+            if (entrada.padre == null) {
+                raiz = reemplazo;
+            } else if (entrada == entrada.padre.izquierda) {
+                entrada.padre.izquierda = reemplazo;
+            } else {
+                entrada.padre.derecha = reemplazo;
+            }
+            entrada.izquierda = null;
+            entrada.derecha = null;
+            entrada.padre = null;
+            if (entrada.color == NEGRO) {
+                balancearEliminacion(reemplazo);
+            }
+        } else if (entrada.padre == null) {
+            raiz = null;
+        } else {
+            // Hoja: se usa a sí misma como nodo a balancear antes de soltarla
+            if (entrada.color == NEGRO) {
+                balancearEliminacion(entrada);
+            }
+            if (entrada.padre != null) {
+                if (entrada == entrada.padre.izquierda) {
+                    entrada.padre.izquierda = null;
+                } else if (entrada == entrada.padre.derecha) {
+                    entrada.padre.derecha = null;
+                }
+                entrada.padre = null;
+            }
+        }
+    }
+
+    private void balancearInsercion(Entrada<K, V> x) {
+        x.color = ROJO;
+
+        while (x != null && x != raiz && x.padre.color == ROJO) {
+            Entrada<K, V> abuelo = padreDe(padreDe(x));
+            if (padreDe(x) == izquierdaDe(abuelo)) {
+                Entrada<K, V> tio = derechaDe(abuelo);
+                if (colorDe(tio) == ROJO) {
+                    setColor(padreDe(x), NEGRO);
+                    setColor(tio, NEGRO);
+                    setColor(abuelo, ROJO);
+                    x = abuelo;
+                } else {
+                    if (x == derechaDe(padreDe(x))) {
+                        x = padreDe(x);
+                        rotarIzquierda(x);
+                    }
+                    setColor(padreDe(x), NEGRO);
+                    setColor(padreDe(padreDe(x)), ROJO);
+                    rotarDerecha(padreDe(padreDe(x)));
+                }
+            } else {
+                Entrada<K, V> tio = izquierdaDe(abuelo);
+                if (colorDe(tio) == ROJO) {
+                    setColor(padreDe(x), NEGRO);
+                    setColor(tio, NEGRO);
+                    setColor(abuelo, ROJO);
+                    x = abuelo;
+                } else {
+                    if (x == izquierdaDe(padreDe(x))) {
+                        x = padreDe(x);
+                        rotarDerecha(x);
+                    }
+                    setColor(padreDe(x), NEGRO);
+                    setColor(padreDe(padreDe(x)), ROJO);
+                    rotarIzquierda(padreDe(padreDe(x)));
+                }
+            }
+        }
+        raiz.color = NEGRO;
+    }
+
+    private void balancearEliminacion(Entrada<K, V> x) {
+        while (x != raiz && colorDe(x) == NEGRO) {
+            if (x == izquierdaDe(padreDe(x))) {
+                Entrada<K, V> hermano = derechaDe(padreDe(x));
+                if (colorDe(hermano) == ROJO) {
+                    setColor(hermano, NEGRO);
+                    setColor(padreDe(x), ROJO);
+                    rotarIzquierda(padreDe(x));
+                    hermano = derechaDe(padreDe(x));
+                }
+
+                if (colorDe(izquierdaDe(hermano)) == NEGRO && colorDe(derechaDe(hermano)) == NEGRO) {
+                    setColor(hermano, ROJO);
+                    x = padreDe(x);
+                } else {
+                    if (colorDe(derechaDe(hermano)) == NEGRO) {
+                        setColor(izquierdaDe(hermano), NEGRO);
+                        setColor(hermano, ROJO);
+                        rotarDerecha(hermano);
+                        hermano = derechaDe(padreDe(x));
+                    }
+                    setColor(hermano, colorDe(padreDe(x)));
+                    setColor(padreDe(x), NEGRO);
+                    setColor(derechaDe(hermano), NEGRO);
+                    rotarIzquierda(padreDe(x));
+                    x = raiz;
+                }
+            } else {
+                Entrada<K, V> hermano = izquierdaDe(padreDe(x));
+                if (colorDe(hermano) == ROJO) {
+                    setColor(hermano, NEGRO);
+                    setColor(padreDe(x), ROJO);
+                    rotarDerecha(padreDe(x));
+                    hermano = izquierdaDe(padreDe(x));
+                }
+
+                if (colorDe(derechaDe(hermano)) == NEGRO && colorDe(izquierdaDe(hermano)) == NEGRO) {
+                    setColor(hermano, ROJO);
+                    x = padreDe(x);
+                } else {
+                    if (colorDe(izquierdaDe(hermano)) == NEGRO) {
+                        setColor(derechaDe(hermano), NEGRO);
+                        setColor(hermano, ROJO);
+                        rotarIzquierda(hermano);
+                        hermano = izquierdaDe(padreDe(x));
+                    }
+                    setColor(hermano, colorDe(padreDe(x)));
+                    setColor(padreDe(x), NEGRO);
+                    setColor(izquierdaDe(hermano), NEGRO);
+                    rotarDerecha(padreDe(x));
+                    x = raiz;
+                }
+            }
+        }
+        setColor(x, NEGRO);
+    }
+
+    private void rotarIzquierda(Entrada<K, V> p) {
+        if (p == null) {
+            return;
+        }
+        Entrada<K, V> r = p.derecha;
+        p.derecha = r.izquierda;
+        if (r.izquierda != null) {
+            r.izquierda.padre = p;
+        }
+        r.padre = p.padre;
+        if (p.padre == null) {
+            raiz = r;
+        } else if (p.padre.izquierda == p) {
+            p.padre.izquierda = r;
+        } else {
+            p.padre.derecha = r;
+        }
+        r.izquierda = p;
+        p.padre = r;
+    }
+
+    private void rotarDerecha(Entrada<K, V> p) {
+        if (p == null) {
+            return;
+        }
+        Entrada<K, V> l = p.izquierda;
+        p.izquierda = l.derecha;
+        if (l.derecha != null) {
+            l.derecha.padre = p;
+        }
+        l.padre = p.padre;
+        if (p.padre == null) {
+            raiz = l;
+        } else if (p.padre.derecha == p) {
+            p.padre.derecha = l;
+        } else {
+            p.padre.izquierda = l;
+        }
+        l.derecha = p;
+        p.padre = l;
+    }
+
+    // Accesos tolerantes a null: las hojas vacías cuentan como negras
+
+    private static <K, V> boolean colorDe(Entrada<K, V> entrada) {
+        return entrada == null ? NEGRO : entrada.color;
+    }
+
+    private static <K, V> void setColor(Entrada<K, V> entrada, boolean color) {
+        if (entrada != null) {
+            entrada.color = color;
+        }
+    }
+
+    private static <K, V> Entrada<K, V> padreDe(Entrada<K, V> entrada) {
+        return entrada == null ? null : entrada.padre;
+    }
+
+    private static <K, V> Entrada<K, V> izquierdaDe(Entrada<K, V> entrada) {
+        return entrada == null ? null : entrada.izquierda;
+    }
+
+    private static <K, V> Entrada<K, V> derechaDe(Entrada<K, V> entrada) {
+        return entrada == null ? null : entrada.derecha;
+    }
+
+    private class Iterador implements Iterator<Entrada<K, V>> {
+        private Entrada<K, V> siguiente;
+        private final K hasta; // Límite superior incluido, null si no hay
+        private int modificacionesEsperadas = modificaciones;
+
+        Iterador(Entrada<K, V> primera, K hasta) {
+            this.siguiente = primera;
+            this.hasta = hasta;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return siguiente != null
+                    && (hasta == null || comparador.compare(siguiente.clave, hasta) <= 0);
+        }
+
+        @Override
+        public Entrada<K, V> next() {
+            if (modificaciones != modificacionesEsperadas) {
+                throw new ConcurrentModificationException();
+            }
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Entrada<K, V> actual = siguiente;
+            siguiente = sucesor(actual);
+            return actual;
+        }
+    }
+
+    @Override
+    public String toString() {
+        if (isEmpty()) {
+            return "{}";
+        }
+
+        StringBuilder sb = new StringBuilder("{");
+        Entrada<K, V> actual = primera();
+        while (actual != null) {
+            sb.append(actual.clave).append("=").append(actual.valor);
+            actual = sucesor(actual);
+            if (actual != null) {
+                sb.append(", ");
+            }
+        }
+        sb.append("}");
+        return sb.toString();
+    }
+
+}
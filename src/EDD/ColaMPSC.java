@@ -0,0 +1,86 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package EDD;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Cola sin bloqueos para varios productores y un solo consumidor
+ * (algoritmo de Vyukov).
+ *
+ * Los productores encolan intercambiando atómicamente la cola (getAndSet),
+ * así que nunca reintentan ni esperan un monitor: cada enqueue es un único
+ * intercambio atómico más una escritura volátil. El consumidor avanza la
+ * cabeza sin operaciones atómicas. poll, peek e isEmpty solo pueden
+ * llamarse desde el hilo consumidor.
+ *
+ * @param <T>
+ */
+public class ColaMPSC<T> {
+
+    private static final class NodoMPSC<T> {
+        private T dato;
+        private volatile NodoMPSC<T> next;
+
+        NodoMPSC(T dato) {
+            this.dato = dato;
+        }
+    }
+
+    private final AtomicReference<NodoMPSC<T>> cola; // Último nodo, compartido por los productores
+    private NodoMPSC<T> cabeza; // Nodo centinela, solo lo toca el consumidor
+
+    public ColaMPSC() {
+        NodoMPSC<T> centinela = new NodoMPSC<>(null);
+        this.cola = new AtomicReference<>(centinela);
+        this.cabeza = centinela;
+    }
+
+    /**
+     * Encola un elemento. Seguro para llamarse desde cualquier hilo.
+     */
+    public void enqueue(T dato) {
+        if (dato == null) {
+            throw new IllegalArgumentException("No se permiten elementos null");
+        }
+        NodoMPSC<T> nodo = new NodoMPSC<>(dato);
+        NodoMPSC<T> anterior = cola.getAndSet(nodo);
+        // Entre el intercambio y este enlace el nodo aún no es visible para el
+        // consumidor; poll simplemente verá la cola vacía hasta entonces
+        anterior.next = nodo;
+    }
+
+    /**
+     * Remueve y retorna el primer elemento, o null si no hay elementos
+     * visibles. Solo para el hilo consumidor.
+     */
+    public T poll() {
+        NodoMPSC<T> siguiente = cabeza.next;
+        if (siguiente == null) {
+            return null;
+        }
+        T dato = siguiente.dato;
+        siguiente.dato = null; // El nodo pasa a ser el nuevo centinela
+        cabeza = siguiente;
+        return dato;
+    }
+
+    /**
+     * Retorna el primer elemento sin removerlo, o null si no hay.
+     * Solo para el hilo consumidor.
+     */
+    public T peek() {
+        NodoMPSC<T> siguiente = cabeza.next;
+        return siguiente == null ? null : siguiente.dato;
+    }
+
+    /**
+     * Verifica si hay elementos visibles. Solo para el hilo consumidor.
+     */
+    public boolean isEmpty() {
+        return cabeza.next == null;
+    }
+
+}
@@ -0,0 +1,237 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package EDD;
+
+import java.util.Comparator;
+
+/**
+ * Cola de prioridad implementada como un montículo binario sobre un arreglo.
+ * El elemento de mayor prioridad es el menor según el comparador.
+ *
+ * insertar retorna una Entrada que funciona como manejador: con ella se
+ * puede eliminar un elemento cualquiera o reacomodarlo después de cambiar
+ * su prioridad, ambos en O(log n) y sin reconstruir el montículo.
+ *
+ * @param <T>
+ */
+public class ColaPrioridad<T> {
+    private static final int CAPACIDAD_INICIAL = 16;
+
+    /**
+     * Manejador de un elemento dentro de la cola
+     */
+    public static final class Entrada<T> {
+        private T dato;
+        private int posicion; // Índice en el montículo, -1 si ya no está
+
+        private Entrada(T dato, int posicion) {
+            this.dato = dato;
+            this.posicion = posicion;
+        }
+
+        public T getDato() {
+            return dato;
+        }
+
+        public boolean isActiva() {
+            return posicion != -1;
+        }
+    }
+
+    private Entrada<T>[] monticulo;
+    private int size;
+    private final Comparator<? super T> comparador;
+
+    public ColaPrioridad(Comparator<? super T> comparador) {
+        this(comparador, CAPACIDAD_INICIAL);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public ColaPrioridad(Comparator<? super T> comparador, int capacidadInicial) {
+        if (capacidadInicial < 1) {
+            capacidadInicial = 1;
+        }
+        this.comparador = comparador;
+        this.monticulo = (Entrada<T>[]) new Entrada[capacidadInicial];
+        this.size = 0;
+    }
+
+    /**
+     * Inserta un elemento en O(log n)
+     *
+     * @return El manejador del elemento insertado
+     */
+    public Entrada<T> insertar(T dato) {
+        if (size == monticulo.length) {
+            crecer();
+        }
+        Entrada<T> entrada = new Entrada<>(dato, size);
+        monticulo[size] = entrada;
+        size++;
+        subir(entrada.posicion);
+        return entrada;
+    }
+
+    /**
+     * Retorna el elemento de mayor prioridad sin removerlo
+     */
+    public T peek() {
+        if (isEmpty()) {
+            throw new IllegalStateException("La cola está vacía");
+        }
+        return monticulo[0].dato;
+    }
+
+    /**
+     * Remueve y retorna el elemento de mayor prioridad en O(log n)
+     */
+    public T poll() {
+        if (isEmpty()) {
+            throw new IllegalStateException("La cola está vacía");
+        }
+        Entrada<T> primera = monticulo[0];
+        quitarEn(0);
+        return primera.dato;
+    }
+
+    /**
+     * Elimina el elemento asociado al manejador en O(log n)
+     *
+     * @return false si la entrada ya no estaba en la cola
+     */
+    public boolean eliminar(Entrada<T> entrada) {
+        if (!contiene(entrada)) {
+            return false;
+        }
+        quitarEn(entrada.posicion);
+        return true;
+    }
+
+    /**
+     * Reubica una entrada después de que cambió la prioridad de su dato.
+     * Sirve tanto para disminuir como para aumentar la clave.
+     */
+    public void actualizar(Entrada<T> entrada) {
+        if (!contiene(entrada)) {
+            throw new IllegalArgumentException("La entrada no pertenece a la cola");
+        }
+        int posicion = entrada.posicion;
+        subir(posicion);
+        if (entrada.posicion == posicion) {
+            bajar(posicion);
+        }
+    }
+
+    /**
+     * Reemplaza el dato de una entrada y la reubica según su nueva prioridad
+     */
+    public void actualizar(Entrada<T> entrada, T nuevoDato) {
+        if (!contiene(entrada)) {
+            throw new IllegalArgumentException("La entrada no pertenece a la cola");
+        }
+        entrada.dato = nuevoDato;
+        actualizar(entrada);
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void vaciar() {
+        for (int i = 0; i < size; i++) {
+            monticulo[i].posicion = -1;
+            monticulo[i] = null;
+        }
+        size = 0;
+    }
+
+    private boolean contiene(Entrada<T> entrada) {
+        return entrada != null && entrada.posicion >= 0 && entrada.posicion < size
+                && monticulo[entrada.posicion] == entrada;
+    }
+
+    /**
+     * Quita la entrada en la posición dada moviendo la última a su lugar
+     */
+    private void quitarEn(int posicion) {
+        Entrada<T> quitada = monticulo[posicion];
+        size--;
+        if (posicion != size) {
+            monticulo[posicion] = monticulo[size];
+            monticulo[posicion].posicion = posicion;
+            monticulo[size] = null;
+            subir(posicion);
+            bajar(monticulo[posicion].posicion);
+        } else {
+            monticulo[size] = null;
+        }
+        quitada.posicion = -1;
+    }
+
+    private void subir(int posicion) {
+        Entrada<T> entrada = monticulo[posicion];
+        while (posicion > 0) {
+            int padre = (posicion - 1) / 2;
+            if (comparador.compare(entrada.dato, monticulo[padre].dato) >= 0) {
+                break;
+            }
+            colocar(monticulo[padre], posicion);
+            posicion = padre;
+        }
+        colocar(entrada, posicion);
+    }
+
+    private void bajar(int posicion) {
+        Entrada<T> entrada = monticulo[posicion];
+        int mitad = size / 2; // Las posiciones desde aquí son hojas
+        while (posicion < mitad) {
+            int hijo = 2 * posicion + 1;
+            int derecho = hijo + 1;
+            if (derecho < size && comparador.compare(monticulo[derecho].dato, monticulo[hijo].dato) < 0) {
+                hijo = derecho;
+            }
+            if (comparador.compare(entrada.dato, monticulo[hijo].dato) <= 0) {
+                break;
+            }
+            colocar(monticulo[hijo], posicion);
+            posicion = hijo;
+        }
+        colocar(entrada, posicion);
+    }
+
+    private void colocar(Entrada<T> entrada, int posicion) {
+        monticulo[posicion] = entrada;
+        entrada.posicion = posicion;
+    }
+
+    private void crecer() {
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Entrada<T>[] nuevo = (Entrada<T>[]) new Entrada[monticulo.length * 2];
+        System.arraycopy(monticulo, 0, nuevo, 0, size);
+        monticulo = nuevo;
+    }
+
+    @Override
+    public String toString() {
+        if (isEmpty()) {
+            return "[]";
+        }
+
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            sb.append(monticulo[i].dato);
+            if (i < size - 1) {
+                sb.append(", ");
+            }
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+
+}
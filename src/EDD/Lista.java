@@ -4,23 +4,55 @@
  */
 package EDD;
 
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 /**
  *
  * @author susov
  * @param <T>
  */
-public class Lista<T> {
+public class Lista<T> implements Iterable<T> {
     private Nodo<T> Head;
     private Nodo<T> Tail;
     private int size;
+    private int modificaciones; // Cambios estructurales, para iteradores fail-fast
+
+    // Reserva opcional de nodos removidos para reutilizarlos en inserciones
+    private Nodo<T> nodosLibres; // Encadenados por next
+    private int cantidadLibres;
+    private final int maximoLibres;
 
     public Lista() {
+        this(0);
+    }
+
+    /**
+     * Crea una lista que guarda hasta maximoLibres nodos removidos y los
+     * reutiliza en las siguientes inserciones, así que con un flujo estable
+     * de inserciones y remociones no se crean nodos nuevos.
+     *
+     * Con la reserva activa, un nodo removido puede volver a la lista con
+     * otro dato: los manejadores (por ejemplo el de insertarFinal) dejan de
+     * ser válidos al remover su elemento.
+     */
+    public Lista(int maximoLibres) {
         this.Head = null;
         this.Tail = null;
         this.size = 0;
+        this.nodosLibres = null;
+        this.cantidadLibres = 0;
+        this.maximoLibres = Math.max(0, maximoLibres);
     }
 
-    public Nodo getHead() {
+    public Nodo<T> getHead() {
         return Head;
     }
 
@@ -33,14 +65,16 @@ public class Lista<T> {
 
     public void setHead(Nodo Head) {
         this.Head = Head;
+        modificaciones++;
     }
 
-    public Nodo getTail() {
+    public Nodo<T> getTail() {
         return Tail;
     }
 
     public void setTail(Nodo Tail) {
         this.Tail = Tail;
+        modificaciones++;
     }
 
     public int getSize() {
@@ -49,6 +83,7 @@ public class Lista<T> {
 
     public void setSize(int size) {
         this.size = size;
+        modificaciones++;
     }
 
     public boolean isEmpty() {
@@ -56,13 +91,26 @@ public class Lista<T> {
     }
 
     public void vaciar() {
+        // Guardar en la reserva los nodos que quepan; el resto lo recoge el GC
+        Nodo<T> actual = Head;
+        while (actual != null && cantidadLibres < maximoLibres) {
+            Nodo<T> siguiente = actual.getNext();
+            reciclar(actual);
+            actual = siguiente;
+        }
         this.Head = null;
         this.Tail = null;
         this.size = 0;
+        modificaciones++;
     }
 
-    public void insertBegin(Object element) {
-        Nodo<T> nodo = new Nodo<>((T) element);
+    /**
+     * Inserta al inicio
+     *
+     * @return El nodo creado, que sirve como manejador para removeNode
+     */
+    public Nodo<T> insertBegin(Object element) {
+        Nodo<T> nodo = nuevoNodo((T) element);
         if (isEmpty()) {
             Head = nodo;
             Tail = nodo;
@@ -72,10 +120,17 @@ public class Lista<T> {
             Head = nodo;
         }
         size++;
+        modificaciones++;
+        return nodo;
     }
 
-    public void insertarFinal(Object dato) {
-        Nodo<T> pNew = new Nodo<>((T) dato);
+    /**
+     * Inserta al final
+     *
+     * @return El nodo creado, que sirve como manejador para removeNode
+     */
+    public Nodo<T> insertarFinal(Object dato) {
+        Nodo<T> pNew = nuevoNodo((T) dato);
         if (isEmpty()) {
             Head = pNew;
             Tail = pNew;
@@ -85,6 +140,67 @@ public class Lista<T> {
             Tail = pNew;
         }
         size++;
+        modificaciones++;
+        return pNew;
+    }
+
+    /**
+     * Mueve todos los nodos de otra lista al final de esta en O(1),
+     * reenlazando la cadena completa sin copiar elementos. otra queda vacía.
+     */
+    public void concatenar(Lista<T> otra) {
+        if (otra == this) {
+            throw new IllegalArgumentException("No se puede concatenar una lista consigo misma");
+        }
+        if (otra.isEmpty()) {
+            return;
+        }
+
+        if (isEmpty()) {
+            Head = otra.Head;
+        } else {
+            Tail.setNext(otra.Head);
+            otra.Head.setPrevious(Tail);
+        }
+        Tail = otra.Tail;
+        size += otra.size;
+        modificaciones++;
+
+        // Los nodos ahora son de esta lista: otra queda vacía sin reciclarlos
+        otra.Head = null;
+        otra.Tail = null;
+        otra.size = 0;
+        otra.modificaciones++;
+    }
+
+    /**
+     * Agrega al final todos los elementos de origen, en orden, en O(m)
+     */
+    public void addAll(Iterable<? extends T> origen) {
+        for (T dato : origen) {
+            insertarFinal(dato);
+        }
+    }
+
+    /**
+     * Elimina en una sola pasada todos los elementos que cumplen la condición
+     *
+     * @return Cantidad de elementos eliminados
+     */
+    public int removeIf(Predicate<? super T> condicion) {
+        int eliminados = 0;
+        Nodo<T> current = Head;
+
+        while (current != null) {
+            Nodo<T> next = current.getNext(); // desenlazar limpia los enlaces
+            if (condicion.test(current.getData())) {
+                desenlazar(current);
+                eliminados++;
+            }
+            current = next;
+        }
+
+        return eliminados;
     }
 
     // Metodo de insertar un valor por una posicion
@@ -106,7 +222,7 @@ public class Lista<T> {
         }
 
         // Inserción en el medio
-        Nodo<T> nuevo = new Nodo<>((T) valor);
+        Nodo<T> nuevo = nuevoNodo((T) valor);
         Nodo<T> anterior = getNodeAt(posicion - 1);
         Nodo<T> siguiente = anterior.getNext();
 
@@ -118,6 +234,7 @@ public class Lista<T> {
         }
 
         size++;
+        modificaciones++;
     }
 
     public T get(int index) {
@@ -150,7 +267,8 @@ public class Lista<T> {
             System.out.println("La lista esta vacia");
         }
 
-        T data = Tail.getData();
+        Nodo<T> removido = Tail;
+        T data = removido.getData();
         Tail = Tail.getPrevious();
 
         if (Tail == null) {
@@ -160,6 +278,8 @@ public class Lista<T> {
         }
 
         size--;
+        modificaciones++;
+        reciclar(removido);
         return data;
     }
 
@@ -177,38 +297,103 @@ public class Lista<T> {
         }
 
         Nodo<T> current = getNodeAt(index);
-        Nodo<T> previous = current.getPrevious();
-        Nodo<T> next = current.getNext();
-
-        previous.setNext(next);
-        next.setPrevious(previous);
-        size--;
-
-        return current.getData();
+        T data = current.getData();
+        desenlazar(current);
+        return data;
     }
 
     public boolean remove(T data) {
         Nodo<T> current = Head;
-        int index = 0;
 
         while (current != null) {
             if (current.getData().equals(data)) {
-                remove(index);
+                desenlazar(current);
                 return true;
             }
             current = current.getNext();
-            index++;
         }
 
         return false;
     }
 
+    /**
+     * Remueve en O(1) un nodo obtenido de esta lista (por ejemplo el retornado
+     * por insertarFinal), sin buscarlo. El nodo debe pertenecer a esta lista.
+     *
+     * @return El dato que contenía el nodo
+     */
+    public T removeNode(Nodo<T> nodo) {
+        // Un nodo sin vecino a un lado solo puede ser la cabeza o la cola;
+        // si no lo es, ya fue removido (o es de otra lista)
+        if ((nodo.getPrevious() == null && nodo != Head) || (nodo.getNext() == null && nodo != Tail)) {
+            throw new IllegalArgumentException("El nodo no pertenece a la lista");
+        }
+        T data = nodo.getData();
+        desenlazar(nodo);
+        return data;
+    }
+
+    /**
+     * Quita un nodo de la lista ajustando sus vecinos en O(1)
+     */
+    private void desenlazar(Nodo<T> nodo) {
+        Nodo<T> previous = nodo.getPrevious();
+        Nodo<T> next = nodo.getNext();
+
+        if (previous == null) {
+            Head = next;
+        } else {
+            previous.setNext(next);
+        }
+
+        if (next == null) {
+            Tail = previous;
+        } else {
+            next.setPrevious(previous);
+        }
+
+        size--;
+        modificaciones++;
+        reciclar(nodo);
+    }
+
+    /**
+     * Toma un nodo de la reserva, o crea uno si está vacía
+     */
+    private Nodo<T> nuevoNodo(T dato) {
+        if (nodosLibres == null) {
+            return new Nodo<>(dato);
+        }
+        Nodo<T> nodo = nodosLibres;
+        nodosLibres = nodo.getNext();
+        cantidadLibres--;
+        nodo.setNext(null);
+        nodo.setData(dato);
+        return nodo;
+    }
+
+    /**
+     * Limpia un nodo ya desenlazado y lo guarda en la reserva si hay lugar
+     */
+    private void reciclar(Nodo<T> nodo) {
+        nodo.setData(null);
+        nodo.setPrevious(null);
+        if (cantidadLibres < maximoLibres) {
+            nodo.setNext(nodosLibres);
+            nodosLibres = nodo;
+            cantidadLibres++;
+        } else {
+            nodo.setNext(null);
+        }
+    }
+
     public T removeFirst() {
         if (isEmpty()) {
             throw new IllegalStateException("La lista está vacía");
         }
 
-        T data = Head.getData();
+        Nodo<T> removido = Head;
+        T data = removido.getData();
         Head = Head.getNext();
 
         if (Head == null) {
@@ -218,6 +403,8 @@ public class Lista<T> {
         }
 
         size--;
+        modificaciones++;
+        reciclar(removido);
         return data;
     }
 
@@ -253,6 +440,242 @@ public class Lista<T> {
         return array;
     }
 
+    /**
+     * Ordena la lista in-place con merge sort sobre los nodos, en O(n log n).
+     * Solo se reenlazan los nodos existentes, sin copias ni nodos nuevos.
+     * Es estable: los elementos iguales conservan su orden relativo.
+     */
+    public void ordenar(Comparator<? super T> comparador) {
+        if (size < 2) {
+            return;
+        }
+
+        Head = mergeSort(Head, size, comparador);
+
+        // El merge solo mantiene los next; reconstruir previous y Tail
+        Nodo<T> anterior = null;
+        Nodo<T> actual = Head;
+        while (actual != null) {
+            actual.setPrevious(anterior);
+            anterior = actual;
+            actual = actual.getNext();
+        }
+        Tail = anterior;
+        modificaciones++;
+    }
+
+    /**
+     * Ordena la cadena de longitud nodos que empieza en inicio y retorna su
+     * nueva cabeza. La cadena resultante termina en null.
+     */
+    private Nodo<T> mergeSort(Nodo<T> inicio, int longitud, Comparator<? super T> comparador) {
+        if (longitud == 1) {
+            inicio.setNext(null);
+            return inicio;
+        }
+
+        int mitad = longitud / 2;
+        Nodo<T> inicioDerecha = inicio;
+        for (int i = 0; i < mitad; i++) {
+            inicioDerecha = inicioDerecha.getNext();
+        }
+
+        // inicioDerecha se ubica antes de reenlazar cualquiera de las mitades
+        Nodo<T> izquierda = mergeSort(inicio, mitad, comparador);
+        Nodo<T> derecha = mergeSort(inicioDerecha, longitud - mitad, comparador);
+        return mezclar(izquierda, derecha, comparador);
+    }
+
+    private Nodo<T> mezclar(Nodo<T> a, Nodo<T> b, Comparator<? super T> comparador) {
+        Nodo<T> cabeza;
+        if (comparador.compare(b.getData(), a.getData()) < 0) {
+            cabeza = b;
+            b = b.getNext();
+        } else {
+            cabeza = a;
+            a = a.getNext();
+        }
+
+        Nodo<T> cola = cabeza;
+        while (a != null && b != null) {
+            // Ante empate gana el de la izquierda para que el orden sea estable
+            if (comparador.compare(b.getData(), a.getData()) < 0) {
+                cola.setNext(b);
+                b = b.getNext();
+            } else {
+                cola.setNext(a);
+                a = a.getNext();
+            }
+            cola = cola.getNext();
+        }
+        cola.setNext(a != null ? a : b);
+        return cabeza;
+    }
+
+    /**
+     * Iterador que recorre los nodos directamente, sin pasar por getNodeAt.
+     * Falla con ConcurrentModificationException si la lista se modifica
+     * por fuera del iterador durante el recorrido.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterador();
+    }
+
+    /**
+     * Spliterator que conoce cuántos nodos le quedan, así que sus partes
+     * también tienen tamaño exacto (SIZED y SUBSIZED). Partir requiere
+     * caminar hasta el nodo del medio, pero cada parte camina solo su mitad,
+     * de modo que stream().parallel() reparte también ese recorrido.
+     *
+     * Toma el primer nodo y el tamaño en su primer uso, no al crearse, así
+     * que ve los cambios hechos a la lista entre spliterator() y el
+     * recorrido.
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new SpliteratorNodos();
+    }
+
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    private class SpliteratorNodos implements Spliterator<T> {
+        private Nodo<T> actual;
+        private int restantes; // -1 hasta el primer uso
+        private int modificacionesEsperadas;
+
+        SpliteratorNodos() {
+            this.restantes = -1;
+        }
+
+        private SpliteratorNodos(Nodo<T> actual, int restantes, int modificacionesEsperadas) {
+            this.actual = actual;
+            this.restantes = restantes;
+            this.modificacionesEsperadas = modificacionesEsperadas;
+        }
+
+        /**
+         * Toma el estado de la lista la primera vez que se usa
+         */
+        private int enlazar() {
+            if (restantes < 0) {
+                actual = Head;
+                restantes = size;
+                modificacionesEsperadas = modificaciones;
+            }
+            return restantes;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int mitad = enlazar() / 2;
+            if (mitad == 0) {
+                return null;
+            }
+            verificarModificaciones();
+            Nodo<T> inicioPrefijo = actual;
+            for (int i = 0; i < mitad; i++) {
+                if (actual == null) {
+                    throw new ConcurrentModificationException();
+                }
+                actual = actual.getNext();
+            }
+            restantes -= mitad;
+            return new SpliteratorNodos(inicioPrefijo, mitad, modificacionesEsperadas);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> accion) {
+            if (enlazar() == 0) {
+                return false;
+            }
+            accion.accept(avanzar());
+            verificarModificaciones();
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> accion) {
+            enlazar();
+            while (restantes > 0) {
+                accion.accept(avanzar());
+            }
+            verificarModificaciones();
+        }
+
+        @Override
+        public long estimateSize() {
+            return enlazar();
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED;
+        }
+
+        /**
+         * Retorna el dato del nodo actual y pasa al siguiente. Verifica antes
+         * de leer, así que un nodo removido (o reciclado) por otro cambio
+         * produce ConcurrentModificationException y no se llega a leer
+         */
+        private T avanzar() {
+            if (actual == null || modificaciones != modificacionesEsperadas) {
+                throw new ConcurrentModificationException();
+            }
+            T dato = actual.getData();
+            actual = actual.getNext();
+            restantes--;
+            return dato;
+        }
+
+        private void verificarModificaciones() {
+            if (modificaciones != modificacionesEsperadas) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    private class Iterador implements Iterator<T> {
+        private Nodo<T> siguiente = Head;
+        private Nodo<T> ultimo = null; // Nodo devuelto por next(), candidato a remove()
+        private int modificacionesEsperadas = modificaciones;
+
+        @Override
+        public boolean hasNext() {
+            return siguiente != null;
+        }
+
+        @Override
+        public T next() {
+            verificarModificaciones();
+            if (siguiente == null) {
+                throw new NoSuchElementException();
+            }
+            ultimo = siguiente;
+            siguiente = siguiente.getNext();
+            return ultimo.getData();
+        }
+
+        @Override
+        public void remove() {
+            if (ultimo == null) {
+                throw new IllegalStateException();
+            }
+            verificarModificaciones();
+            desenlazar(ultimo);
+            ultimo = null;
+            modificacionesEsperadas = modificaciones;
+        }
+
+        private void verificarModificaciones() {
+            if (modificaciones != modificacionesEsperadas) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
     @Override
     public String toString() {
         if (isEmpty()) {
@@ -0,0 +1,285 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package EDD;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Lista respaldada por un arreglo que crece dinámicamente.
+ * Ofrece la misma interfaz que Lista pero con acceso por índice en O(1),
+ * por lo que recorrerla con get(i) cuesta O(n) en lugar de O(n²).
+ *
+ * @param <T>
+ */
+public class ListaArreglo<T> implements Iterable<T> {
+    private static final int CAPACIDAD_INICIAL = 16;
+
+    private Object[] elementos;
+    private int size;
+    private int modificaciones; // Cambios estructurales, para iteradores fail-fast
+
+    public ListaArreglo() {
+        this(CAPACIDAD_INICIAL);
+    }
+
+    public ListaArreglo(int capacidadInicial) {
+        if (capacidadInicial < 1) {
+            capacidadInicial = 1;
+        }
+        this.elementos = new Object[capacidadInicial];
+        this.size = 0;
+    }
+
+    public T getFirst() {
+        if (isEmpty()) {
+            throw new IllegalStateException("La lista está vacía");
+        }
+        return elemento(0);
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void vaciar() {
+        // Soltar las referencias para que el GC pueda recolectarlas
+        for (int i = 0; i < size; i++) {
+            elementos[i] = null;
+        }
+        size = 0;
+        modificaciones++;
+    }
+
+    public void insertBegin(T element) {
+        insertarPosicion(0, element);
+    }
+
+    public void insertarFinal(T dato) {
+        asegurarCapacidad(size + 1);
+        elementos[size++] = dato;
+        modificaciones++;
+    }
+
+    // Metodo de insertar un valor por una posicion
+    public void insertarPosicion(int posicion, T valor) {
+        if (posicion < 0 || posicion > size) {
+            return; // Posición inválida
+        }
+
+        asegurarCapacidad(size + 1);
+        System.arraycopy(elementos, posicion, elementos, posicion + 1, size - posicion);
+        elementos[posicion] = valor;
+        size++;
+        modificaciones++;
+    }
+
+    public T get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Índice fuera de rango");
+        }
+        return elemento(index);
+    }
+
+    public void set(int index, T valor) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Índice fuera de rango");
+        }
+        elementos[index] = valor;
+    }
+
+    public T removeLast() {
+        if (isEmpty()) {
+            throw new IllegalStateException("La lista está vacía");
+        }
+        return remove(size - 1);
+    }
+
+    public T remove(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Índice fuera de rango");
+        }
+
+        T data = elemento(index);
+        int mover = size - index - 1;
+        if (mover > 0) {
+            System.arraycopy(elementos, index + 1, elementos, index, mover);
+        }
+        elementos[--size] = null;
+        modificaciones++;
+        return data;
+    }
+
+    public boolean remove(T data) {
+        int index = indexOf(data);
+        if (index == -1) {
+            return false;
+        }
+        remove(index);
+        return true;
+    }
+
+    public T removeFirst() {
+        if (isEmpty()) {
+            throw new IllegalStateException("La lista está vacía");
+        }
+        return remove(0);
+    }
+
+    /**
+     * Elimina en una sola pasada todos los elementos que cumplen la condición,
+     * compactando los que quedan hacia el inicio del arreglo en O(n)
+     *
+     * @return Cantidad de elementos eliminados
+     */
+    public int removeIf(Predicate<? super T> condicion) {
+        int destino = 0;
+        for (int i = 0; i < size; i++) {
+            T dato = elemento(i);
+            if (!condicion.test(dato)) {
+                elementos[destino++] = dato;
+            }
+        }
+
+        int eliminados = size - destino;
+        if (eliminados > 0) {
+            for (int i = destino; i < size; i++) {
+                elementos[i] = null;
+            }
+            size = destino;
+            modificaciones++;
+        }
+        return eliminados;
+    }
+
+    public int indexOf(T data) {
+        for (int i = 0; i < size; i++) {
+            if (elementos[i].equals(data)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public boolean contains(T data) {
+        return indexOf(data) != -1;
+    }
+
+    public Object[] toArray() {
+        Object[] array = new Object[size];
+        System.arraycopy(elementos, 0, array, 0, size);
+        return array;
+    }
+
+    /**
+     * Iterador fail-fast sobre el arreglo. remove() desplaza los elementos
+     * siguientes, igual que remove(int).
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterador();
+    }
+
+    /**
+     * Spliterator que se parte por la mitad del arreglo (SIZED y SUBSIZED),
+     * para que stream().parallel() reparta el trabajo en partes iguales
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new SpliteratorArreglo<>(elementos, 0, size, () -> modificaciones);
+    }
+
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    private class Iterador implements Iterator<T> {
+        private int cursor = 0;
+        private int ultimo = -1; // Índice devuelto por next(), candidato a remove()
+        private int modificacionesEsperadas = modificaciones;
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        @Override
+        public T next() {
+            verificarModificaciones();
+            if (cursor >= size) {
+                throw new NoSuchElementException();
+            }
+            ultimo = cursor++;
+            return elemento(ultimo);
+        }
+
+        @Override
+        public void remove() {
+            if (ultimo < 0) {
+                throw new IllegalStateException();
+            }
+            verificarModificaciones();
+            ListaArreglo.this.remove(ultimo);
+            cursor = ultimo;
+            ultimo = -1;
+            modificacionesEsperadas = modificaciones;
+        }
+
+        private void verificarModificaciones() {
+            if (modificaciones != modificacionesEsperadas) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    /**
+     * Garantiza espacio para al menos minimo elementos.
+     * La capacidad se duplica para que insertarFinal sea O(1) amortizado.
+     */
+    private void asegurarCapacidad(int minimo) {
+        if (minimo <= elementos.length) {
+            return;
+        }
+        int nuevaCapacidad = elementos.length * 2;
+        if (nuevaCapacidad < minimo) {
+            nuevaCapacidad = minimo;
+        }
+        Object[] nuevo = new Object[nuevaCapacidad];
+        System.arraycopy(elementos, 0, nuevo, 0, size);
+        elementos = nuevo;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T elemento(int index) {
+        return (T) elementos[index];
+    }
+
+    @Override
+    public String toString() {
+        if (isEmpty()) {
+            return "[]";
+        }
+
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            sb.append(elementos[i]);
+            if (i < size - 1) {
+                sb.append(", ");
+            }
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+
+}
@@ -0,0 +1,260 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package EDD;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Lista respaldada por un arreglo que entrega instantáneas inmutables en
+ * O(1) (copia en escritura).
+ *
+ * instantanea() no copia nada: la instantánea comparte el arreglo actual y
+ * la lista recuerda cuántas posiciones quedaron compartidas. La siguiente
+ * escritura sobre esas posiciones copia el arreglo primero; agregar al
+ * final no las toca, así que no copia. Una instantánea nunca cambia y se
+ * puede recorrer desde cualquier hilo sin bloqueos. La lista en sí tiene un
+ * único escritor.
+ *
+ * @param <T>
+ */
+public class ListaCopiaEscritura<T> implements Iterable<T> {
+    private static final int CAPACIDAD_INICIAL = 16;
+
+    /**
+     * Vista inmutable de la lista en el momento en que se tomó
+     */
+    public static final class Instantanea<T> implements Iterable<T> {
+        private final Object[] elementos;
+        private final int size;
+
+        private Instantanea(Object[] elementos, int size) {
+            this.elementos = elementos;
+            this.size = size;
+        }
+
+        @SuppressWarnings("unchecked")
+        public T get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Índice fuera de rango");
+            }
+            return (T) elementos[index];
+        }
+
+        public int getSize() {
+            return size;
+        }
+
+        public boolean isEmpty() {
+            return size == 0;
+        }
+
+        public Object[] toArray() {
+            Object[] array = new Object[size];
+            System.arraycopy(elementos, 0, array, 0, size);
+            return array;
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return new Iterator<T>() {
+                private int siguiente = 0;
+
+                @Override
+                public boolean hasNext() {
+                    return siguiente < size;
+                }
+
+                @Override
+                @SuppressWarnings("unchecked")
+                public T next() {
+                    if (siguiente >= size) {
+                        throw new NoSuchElementException();
+                    }
+                    return (T) elementos[siguiente++];
+                }
+            };
+        }
+
+        @Override
+        public Spliterator<T> spliterator() {
+            return new SpliteratorArreglo<>(elementos, 0, size, null);
+        }
+
+        public Stream<T> stream() {
+            return StreamSupport.stream(spliterator(), false);
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder("[");
+            for (int i = 0; i < size; i++) {
+                sb.append(elementos[i]);
+                if (i < size - 1) {
+                    sb.append(", ");
+                }
+            }
+            sb.append("]");
+            return sb.toString();
+        }
+    }
+
+    private Object[] elementos;
+    private int size;
+    private int compartidas; // Posiciones de elementos visibles desde alguna instantánea
+
+    public ListaCopiaEscritura() {
+        this.elementos = new Object[CAPACIDAD_INICIAL];
+        this.size = 0;
+        this.compartidas = 0;
+    }
+
+    /**
+     * Retorna una vista inmutable del contenido actual, en O(1)
+     */
+    public Instantanea<T> instantanea() {
+        compartidas = size;
+        return new Instantanea<>(elementos, size);
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public T getFirst() {
+        if (isEmpty()) {
+            throw new IllegalStateException("La lista está vacía");
+        }
+        return elemento(0);
+    }
+
+    public T get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Índice fuera de rango");
+        }
+        return elemento(index);
+    }
+
+    public void vaciar() {
+        if (compartidas > 0) {
+            // Las instantáneas siguen usando el arreglo viejo
+            elementos = new Object[CAPACIDAD_INICIAL];
+            compartidas = 0;
+        } else {
+            for (int i = 0; i < size; i++) {
+                elementos[i] = null;
+            }
+        }
+        size = 0;
+    }
+
+    public void insertarFinal(T dato) {
+        if (size == elementos.length) {
+            copiarArreglo(elementos.length * 2);
+        }
+        elementos[size++] = dato;
+    }
+
+    public void set(int index, T valor) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Índice fuera de rango");
+        }
+        prepararEscritura(index);
+        elementos[index] = valor;
+    }
+
+    public T remove(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Índice fuera de rango");
+        }
+        prepararEscritura(index);
+
+        T data = elemento(index);
+        int mover = size - index - 1;
+        if (mover > 0) {
+            System.arraycopy(elementos, index + 1, elementos, index, mover);
+        }
+        elementos[--size] = null;
+        return data;
+    }
+
+    public boolean remove(T data) {
+        int index = indexOf(data);
+        if (index == -1) {
+            return false;
+        }
+        remove(index);
+        return true;
+    }
+
+    public int indexOf(T data) {
+        for (int i = 0; i < size; i++) {
+            if (elementos[i].equals(data)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public boolean contains(T data) {
+        return indexOf(data) != -1;
+    }
+
+    /**
+     * Recorre una instantánea del contenido actual, así que nunca falla
+     * por modificaciones concurrentes ni las ve.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return instantanea().iterator();
+    }
+
+    /**
+     * Spliterator sobre una instantánea del contenido actual
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return instantanea().spliterator();
+    }
+
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Copia el arreglo antes de escribir en una posición que alguna
+     * instantánea todavía puede leer
+     */
+    private void prepararEscritura(int index) {
+        if (index < compartidas) {
+            copiarArreglo(elementos.length);
+        }
+    }
+
+    private void copiarArreglo(int capacidad) {
+        Object[] nuevo = new Object[capacidad];
+        System.arraycopy(elementos, 0, nuevo, 0, size);
+        elementos = nuevo;
+        compartidas = 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T elemento(int indice) {
+        return (T) elementos[indice];
+    }
+
+    @Override
+    public String toString() {
+        return new Instantanea<>(elementos, size).toString(); // Solo lectura, no marca nada como compartido
+    }
+
+}
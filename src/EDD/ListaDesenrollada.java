@@ -0,0 +1,384 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package EDD;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Lista enlazada desenrollada: cada nodo guarda un arreglo de hasta
+ * CAPACIDAD_NODO elementos contiguos en lugar de uno solo.
+ *
+ * Recorrerla salta de nodo en nodo una vez cada CAPACIDAD_NODO elementos,
+ * así que hay muchos menos saltos de puntero (y fallos de caché) que en
+ * Lista. insertarFinal es O(1) amortizado; insertar o remover en el medio
+ * mueve a lo sumo un arreglo de nodo, porque un nodo lleno se parte en dos
+ * y uno que queda casi vacío se fusiona con el siguiente.
+ *
+ * @param <T>
+ */
+public class ListaDesenrollada<T> implements Iterable<T> {
+    private static final int CAPACIDAD_NODO = 32;
+
+    private static final class NodoArreglo {
+        private final Object[] elementos = new Object[CAPACIDAD_NODO];
+        private int cantidad;
+        private NodoArreglo siguiente;
+        private NodoArreglo anterior;
+    }
+
+    /**
+     * Ubicación de un índice lógico: el nodo y la posición dentro de él
+     */
+    private static final class Posicion {
+        private final NodoArreglo nodo;
+        private final int indice;
+
+        Posicion(NodoArreglo nodo, int indice) {
+            this.nodo = nodo;
+            this.indice = indice;
+        }
+    }
+
+    private NodoArreglo primero;
+    private NodoArreglo ultimo;
+    private int size;
+    private int modificaciones; // Cambios estructurales, para iteradores fail-fast
+
+    public ListaDesenrollada() {
+        this.primero = null;
+        this.ultimo = null;
+        this.size = 0;
+    }
+
+    public T getFirst() {
+        if (isEmpty()) {
+            throw new IllegalStateException("La lista está vacía");
+        }
+        return elemento(primero, 0);
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void vaciar() {
+        primero = null;
+        ultimo = null;
+        size = 0;
+        modificaciones++;
+    }
+
+    public void insertBegin(T element) {
+        insertarPosicion(0, element);
+    }
+
+    public void insertarFinal(T dato) {
+        if (ultimo == null || ultimo.cantidad == CAPACIDAD_NODO) {
+            // Se abre un nodo nuevo en vez de partir: los nodos llenados por
+            // el final quedan completos
+            enlazarDespues(ultimo, new NodoArreglo());
+        }
+        ultimo.elementos[ultimo.cantidad++] = dato;
+        size++;
+        modificaciones++;
+    }
+
+    // Metodo de insertar un valor por una posicion
+    public void insertarPosicion(int posicion, T valor) {
+        if (posicion < 0 || posicion > size) {
+            return; // Posición inválida
+        }
+        if (posicion == size) {
+            insertarFinal(valor);
+            return;
+        }
+
+        Posicion ubicacion = ubicar(posicion);
+        NodoArreglo nodo = ubicacion.nodo;
+        int indice = ubicacion.indice;
+
+        if (nodo.cantidad == CAPACIDAD_NODO) {
+            // Partir el nodo lleno: la mitad superior pasa a un nodo nuevo
+            int mitad = CAPACIDAD_NODO / 2;
+            NodoArreglo nuevo = new NodoArreglo();
+            System.arraycopy(nodo.elementos, mitad, nuevo.elementos, 0, CAPACIDAD_NODO - mitad);
+            for (int i = mitad; i < CAPACIDAD_NODO; i++) {
+                nodo.elementos[i] = null;
+            }
+            nuevo.cantidad = CAPACIDAD_NODO - mitad;
+            nodo.cantidad = mitad;
+            enlazarDespues(nodo, nuevo);
+
+            if (indice > mitad) {
+                nodo = nuevo;
+                indice -= mitad;
+            }
+        }
+
+        System.arraycopy(nodo.elementos, indice, nodo.elementos, indice + 1, nodo.cantidad - indice);
+        nodo.elementos[indice] = valor;
+        nodo.cantidad++;
+        size++;
+        modificaciones++;
+    }
+
+    public T get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Índice fuera de rango");
+        }
+        Posicion ubicacion = ubicar(index);
+        return elemento(ubicacion.nodo, ubicacion.indice);
+    }
+
+    public T removeLast() {
+        if (isEmpty()) {
+            throw new IllegalStateException("La lista está vacía");
+        }
+        return removerEn(ultimo, ultimo.cantidad - 1);
+    }
+
+    public T removeFirst() {
+        if (isEmpty()) {
+            throw new IllegalStateException("La lista está vacía");
+        }
+        return removerEn(primero, 0);
+    }
+
+    public T remove(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Índice fuera de rango");
+        }
+        Posicion ubicacion = ubicar(index);
+        return removerEn(ubicacion.nodo, ubicacion.indice);
+    }
+
+    public boolean remove(T data) {
+        for (NodoArreglo nodo = primero; nodo != null; nodo = nodo.siguiente) {
+            for (int i = 0; i < nodo.cantidad; i++) {
+                if (nodo.elementos[i].equals(data)) {
+                    removerEn(nodo, i);
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    public int indexOf(T data) {
+        int base = 0;
+        for (NodoArreglo nodo = primero; nodo != null; nodo = nodo.siguiente) {
+            for (int i = 0; i < nodo.cantidad; i++) {
+                if (nodo.elementos[i].equals(data)) {
+                    return base + i;
+                }
+            }
+            base += nodo.cantidad;
+        }
+        return -1;
+    }
+
+    public boolean contains(T data) {
+        return indexOf(data) != -1;
+    }
+
+    public Object[] toArray() {
+        Object[] array = new Object[size];
+        int destino = 0;
+        for (NodoArreglo nodo = primero; nodo != null; nodo = nodo.siguiente) {
+            System.arraycopy(nodo.elementos, 0, array, destino, nodo.cantidad);
+            destino += nodo.cantidad;
+        }
+        return array;
+    }
+
+    /**
+     * Quita el elemento en la posición indice del nodo. Si el nodo queda
+     * vacío se desenlaza; si queda con poco, absorbe al siguiente cuando
+     * entre los dos no llenan medio nodo.
+     */
+    private T removerEn(NodoArreglo nodo, int indice) {
+        T data = elemento(nodo, indice);
+        int mover = nodo.cantidad - indice - 1;
+        if (mover > 0) {
+            System.arraycopy(nodo.elementos, indice + 1, nodo.elementos, indice, mover);
+        }
+        nodo.elementos[--nodo.cantidad] = null;
+        size--;
+        modificaciones++;
+
+        if (nodo.cantidad == 0) {
+            desenlazar(nodo);
+        } else if (nodo.siguiente != null
+                && nodo.cantidad + nodo.siguiente.cantidad <= CAPACIDAD_NODO / 2) {
+            NodoArreglo siguiente = nodo.siguiente;
+            System.arraycopy(siguiente.elementos, 0, nodo.elementos, nodo.cantidad, siguiente.cantidad);
+            nodo.cantidad += siguiente.cantidad;
+            desenlazar(siguiente);
+        }
+        return data;
+    }
+
+    /**
+     * Busca el nodo que contiene el índice, recorriendo desde el extremo
+     * más cercano y saltando nodos completos
+     */
+    private Posicion ubicar(int index) {
+        if (index < size / 2) {
+            NodoArreglo nodo = primero;
+            while (index >= nodo.cantidad) {
+                index -= nodo.cantidad;
+                nodo = nodo.siguiente;
+            }
+            return new Posicion(nodo, index);
+        }
+
+        NodoArreglo nodo = ultimo;
+        int desdeElFinal = size - 1 - index;
+        while (desdeElFinal >= nodo.cantidad) {
+            desdeElFinal -= nodo.cantidad;
+            nodo = nodo.anterior;
+        }
+        return new Posicion(nodo, nodo.cantidad - 1 - desdeElFinal);
+    }
+
+    /**
+     * Enlaza nuevo después de nodo, o como primero si nodo es null
+     */
+    private void enlazarDespues(NodoArreglo nodo, NodoArreglo nuevo) {
+        NodoArreglo siguiente = nodo == null ? primero : nodo.siguiente;
+        nuevo.anterior = nodo;
+        nuevo.siguiente = siguiente;
+        if (nodo == null) {
+            primero = nuevo;
+        } else {
+            nodo.siguiente = nuevo;
+        }
+        if (siguiente == null) {
+            ultimo = nuevo;
+        } else {
+            siguiente.anterior = nuevo;
+        }
+    }
+
+    private void desenlazar(NodoArreglo nodo) {
+        if (nodo.anterior == null) {
+            primero = nodo.siguiente;
+        } else {
+            nodo.anterior.siguiente = nodo.siguiente;
+        }
+        if (nodo.siguiente == null) {
+            ultimo = nodo.anterior;
+        } else {
+            nodo.siguiente.anterior = nodo.anterior;
+        }
+        nodo.siguiente = null;
+        nodo.anterior = null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T elemento(NodoArreglo nodo, int indice) {
+        return (T) nodo.elementos[indice];
+    }
+
+    /**
+     * Iterador que recorre cada arreglo de nodo en orden. Falla con
+     * ConcurrentModificationException si la lista se modifica por fuera del
+     * iterador durante el recorrido.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterador();
+    }
+
+    private class Iterador implements Iterator<T> {
+        private NodoArreglo nodo = primero; // Nodo del siguiente elemento
+        private int indice = 0; // Posición del siguiente elemento dentro de nodo
+        private NodoArreglo nodoUltimo = null; // Ubicación del devuelto por next(), para remove()
+        private int indiceUltimo = -1;
+        private int modificacionesEsperadas = modificaciones;
+
+        @Override
+        public boolean hasNext() {
+            return nodo != null;
+        }
+
+        @Override
+        public T next() {
+            verificarModificaciones();
+            if (nodo == null) {
+                throw new NoSuchElementException();
+            }
+            nodoUltimo = nodo;
+            indiceUltimo = indice;
+            T dato = elemento(nodo, indice);
+            avanzar(nodo, indice + 1);
+            return dato;
+        }
+
+        @Override
+        public void remove() {
+            if (indiceUltimo == -1) {
+                throw new IllegalStateException();
+            }
+            verificarModificaciones();
+            NodoArreglo siguiente = nodoUltimo.siguiente;
+            removerEn(nodoUltimo, indiceUltimo);
+
+            // Los elementos posteriores del mismo nodo se corrieron una
+            // posición; si el nodo se vació, se sigue en el que venía después
+            if (nodoUltimo.cantidad == 0) {
+                avanzar(siguiente, 0);
+            } else {
+                avanzar(nodoUltimo, indiceUltimo);
+            }
+            nodoUltimo = null;
+            indiceUltimo = -1;
+            modificacionesEsperadas = modificaciones;
+        }
+
+        private void avanzar(NodoArreglo desde, int posicion) {
+            if (desde != null && posicion == desde.cantidad) {
+                desde = desde.siguiente; // Los nodos enlazados nunca están vacíos
+                posicion = 0;
+            }
+            nodo = desde;
+            indice = posicion;
+        }
+
+        private void verificarModificaciones() {
+            if (modificaciones != modificacionesEsperadas) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        if (isEmpty()) {
+            return "[]";
+        }
+
+        StringBuilder sb = new StringBuilder("[");
+        boolean primeroEscrito = true;
+        for (NodoArreglo nodo = primero; nodo != null; nodo = nodo.siguiente) {
+            for (int i = 0; i < nodo.cantidad; i++) {
+                if (!primeroEscrito) {
+                    sb.append(", ");
+                }
+                sb.append(nodo.elementos[i]);
+                primeroEscrito = false;
+            }
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+
+}
@@ -0,0 +1,94 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package EDD;
+
+/**
+ * Lista de enteros primitivos respaldada por un int[] que crece dinámicamente.
+ * Pensada para cadenas de bloques: cada elemento ocupa 4 bytes, sin Nodo ni
+ * Integer por bloque.
+ */
+public class ListaInt {
+    private static final int CAPACIDAD_INICIAL = 8;
+
+    private int[] elementos;
+    private int size;
+
+    public ListaInt() {
+        this(CAPACIDAD_INICIAL);
+    }
+
+    public ListaInt(int capacidadInicial) {
+        if (capacidadInicial < 1) {
+            capacidadInicial = 1;
+        }
+        this.elementos = new int[capacidadInicial];
+        this.size = 0;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void vaciar() {
+        size = 0;
+    }
+
+    public void insertarFinal(int dato) {
+        if (size == elementos.length) {
+            int[] nuevo = new int[elementos.length * 2];
+            System.arraycopy(elementos, 0, nuevo, 0, size);
+            elementos = nuevo;
+        }
+        elementos[size++] = dato;
+    }
+
+    public int get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Índice fuera de rango");
+        }
+        return elementos[index];
+    }
+
+    public int indexOf(int dato) {
+        for (int i = 0; i < size; i++) {
+            if (elementos[i] == dato) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public boolean contains(int dato) {
+        return indexOf(dato) != -1;
+    }
+
+    public int[] toArray() {
+        int[] array = new int[size];
+        System.arraycopy(elementos, 0, array, 0, size);
+        return array;
+    }
+
+    @Override
+    public String toString() {
+        if (isEmpty()) {
+            return "[]";
+        }
+
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            sb.append(elementos[i]);
+            if (i < size - 1) {
+                sb.append(", ");
+            }
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+
+}
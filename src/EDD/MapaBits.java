@@ -0,0 +1,192 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package EDD;
+
+/**
+ * Conjunto de bits de tamaño fijo empaquetado en un long[], 64 bits por
+ * palabra. Las búsquedas del siguiente bit encendido o apagado y el conteo
+ * avanzan palabra por palabra (Long.numberOfTrailingZeros y Long.bitCount),
+ * así que saltan 64 posiciones por iteración.
+ */
+public class MapaBits {
+    private static final int BITS_POR_PALABRA = 64;
+    private static final long TODOS = -1L;
+
+    private final long[] palabras;
+    private final int tamano;
+
+    public MapaBits(int tamano) {
+        if (tamano < 0) {
+            throw new IllegalArgumentException("Tamaño negativo: " + tamano);
+        }
+        this.tamano = tamano;
+        this.palabras = new long[(tamano + BITS_POR_PALABRA - 1) / BITS_POR_PALABRA];
+    }
+
+    public boolean get(int indice) {
+        verificarIndice(indice);
+        return (palabras[indice >>> 6] & (1L << indice)) != 0;
+    }
+
+    public void set(int indice) {
+        verificarIndice(indice);
+        palabras[indice >>> 6] |= 1L << indice; // El desplazamiento de long usa solo los 6 bits bajos
+    }
+
+    public void clear(int indice) {
+        verificarIndice(indice);
+        palabras[indice >>> 6] &= ~(1L << indice);
+    }
+
+    /**
+     * Enciende los bits de desde (incluido) a hasta (excluido)
+     */
+    public void set(int desde, int hasta) {
+        verificarRango(desde, hasta);
+        if (desde == hasta) {
+            return;
+        }
+        int primera = desde >>> 6;
+        int ultima = (hasta - 1) >>> 6;
+        long mascaraPrimera = TODOS << desde;
+        long mascaraUltima = TODOS >>> -hasta; // Bits 0..(hasta-1) de la última palabra
+
+        if (primera == ultima) {
+            palabras[primera] |= mascaraPrimera & mascaraUltima;
+            return;
+        }
+        palabras[primera] |= mascaraPrimera;
+        for (int i = primera + 1; i < ultima; i++) {
+            palabras[i] = TODOS;
+        }
+        palabras[ultima] |= mascaraUltima;
+    }
+
+    /**
+     * Apaga los bits de desde (incluido) a hasta (excluido)
+     */
+    public void clear(int desde, int hasta) {
+        verificarRango(desde, hasta);
+        if (desde == hasta) {
+            return;
+        }
+        int primera = desde >>> 6;
+        int ultima = (hasta - 1) >>> 6;
+        long mascaraPrimera = TODOS << desde;
+        long mascaraUltima = TODOS >>> -hasta;
+
+        if (primera == ultima) {
+            palabras[primera] &= ~(mascaraPrimera & mascaraUltima);
+            return;
+        }
+        palabras[primera] &= ~mascaraPrimera;
+        for (int i = primera + 1; i < ultima; i++) {
+            palabras[i] = 0;
+        }
+        palabras[ultima] &= ~mascaraUltima;
+    }
+
+    /**
+     * Retorna el índice del primer bit encendido a partir de desde
+     * (incluido), o -1 si no hay ninguno
+     */
+    public int nextSetBit(int desde) {
+        if (desde < 0) {
+            throw new IndexOutOfBoundsException("Índice negativo: " + desde);
+        }
+        if (desde >= tamano) {
+            return -1;
+        }
+        int i = desde >>> 6;
+        long palabra = palabras[i] & (TODOS << desde); // Ignorar los bits antes de desde
+        while (true) {
+            if (palabra != 0) {
+                int indice = i * BITS_POR_PALABRA + Long.numberOfTrailingZeros(palabra);
+                return indice < tamano ? indice : -1;
+            }
+            if (++i == palabras.length) {
+                return -1;
+            }
+            palabra = palabras[i];
+        }
+    }
+
+    /**
+     * Retorna el índice del primer bit apagado a partir de desde
+     * (incluido), o -1 si todos los restantes están encendidos
+     */
+    public int nextClearBit(int desde) {
+        if (desde < 0) {
+            throw new IndexOutOfBoundsException("Índice negativo: " + desde);
+        }
+        if (desde >= tamano) {
+            return -1;
+        }
+        int i = desde >>> 6;
+        long palabra = ~palabras[i] & (TODOS << desde);
+        while (true) {
+            if (palabra != 0) {
+                int indice = i * BITS_POR_PALABRA + Long.numberOfTrailingZeros(palabra);
+                return indice < tamano ? indice : -1;
+            }
+            if (++i == palabras.length) {
+                return -1;
+            }
+            palabra = ~palabras[i];
+        }
+    }
+
+    /**
+     * Cantidad de bits encendidos
+     */
+    public int cardinality() {
+        int total = 0;
+        for (long palabra : palabras) {
+            total += Long.bitCount(palabra);
+        }
+        return total;
+    }
+
+    public int getTamano() {
+        return tamano;
+    }
+
+    /**
+     * Apaga todos los bits
+     */
+    public void vaciar() {
+        for (int i = 0; i < palabras.length; i++) {
+            palabras[i] = 0;
+        }
+    }
+
+    private void verificarIndice(int indice) {
+        if (indice < 0 || indice >= tamano) {
+            throw new IndexOutOfBoundsException("Índice fuera de rango");
+        }
+    }
+
+    private void verificarRango(int desde, int hasta) {
+        if (desde < 0 || hasta > tamano || desde > hasta) {
+            throw new IndexOutOfBoundsException("Rango inválido: [" + desde + ", " + hasta + ")");
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("{");
+        boolean primero = true;
+        for (int i = nextSetBit(0); i != -1; i = nextSetBit(i + 1)) {
+            if (!primero) {
+                sb.append(", ");
+            }
+            sb.append(i);
+            primero = false;
+        }
+        sb.append("}");
+        return sb.toString();
+    }
+
+}
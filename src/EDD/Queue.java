@@ -5,19 +5,39 @@
 package EDD;
 
 /**
+ * Cola circular respaldada por un arreglo.
+ * enqueue y dequeue son O(1) amortizado y no crean objetos por elemento;
+ * el arreglo solo se reasigna cuando se llena (duplicando su capacidad).
  *
  * @author susov
  * @param <T>
  */
 public class Queue <T> {
-    private Lista <T> list;
-    
+    private static final int CAPACIDAD_INICIAL = 16;
+
+    private Object[] elementos;
+    private int frente; // Índice del primer elemento
+    private int size;
+
     public Queue() {
-        this.list = new Lista<>();
+        this(CAPACIDAD_INICIAL);
+    }
+
+    public Queue(int capacidadInicial) {
+        if (capacidadInicial < 1) {
+            capacidadInicial = 1;
+        }
+        this.elementos = new Object[capacidadInicial];
+        this.frente = 0;
+        this.size = 0;
     }
 
     public void enqueue(T data) {
-        list.insertarFinal(data);
+        if (size == elementos.length) {
+            crecer();
+        }
+        elementos[indiceFisico(size)] = data;
+        size++;
     }
 
     /**
@@ -27,7 +47,11 @@ public class Queue <T> {
         if (isEmpty()) {
             throw new IllegalStateException("La cola está vacía");
         }
-        return list.removeFirst();
+        T data = elemento(frente);
+        elementos[frente] = null; // Soltar la referencia para el GC
+        frente = (frente + 1) % elementos.length;
+        size--;
+        return data;
     }
 
     /**
@@ -35,56 +59,125 @@ public class Queue <T> {
      */
     public T peek() {
         if (isEmpty()) {
-            System.out.println("La lista esta vacia");;
+            throw new IllegalStateException("La cola está vacía");
         }
-        return (T) list.getHead();
+        return elemento(frente);
     }
 
     /**
      * Verifica si está vacía
      */
     public boolean isEmpty() {
-        return list.isEmpty();
+        return size == 0;
     }
 
     /**
      * Retorna el tamaño
      */
     public int size() {
-        return list.getSize();
+        return size;
     }
 
     /**
      * Vacia la cola
      */
     public void clear() {
-        list.vaciar();
+        for (int i = 0; i < size; i++) {
+            elementos[indiceFisico(i)] = null;
+        }
+        frente = 0;
+        size = 0;
     }
 
     /**
      * Verifica si contiene un elemento
      */
     public boolean contains(T data) {
-        return list.contains(data);
+        return buscar(data) != -1;
     }
 
     /**
      * Remueve un elemento específico de la cola
      */
     public boolean remove(T data) {
-        return list.remove(data);
+        int posicion = buscar(data);
+        if (posicion == -1) {
+            return false;
+        }
+
+        // Correr una posición hacia el frente los elementos que venían detrás
+        for (int i = posicion; i < size - 1; i++) {
+            elementos[indiceFisico(i)] = elementos[indiceFisico(i + 1)];
+        }
+        elementos[indiceFisico(size - 1)] = null;
+        size--;
+        return true;
     }
 
     /**
      * Obtiene todos los elementos como array
      */
     public Object[] toArray() {
-        return list.toArray();
+        Object[] array = new Object[size];
+        copiarEnOrden(array);
+        return array;
+    }
+
+    /**
+     * Retorna la posición lógica (0 = frente) de un elemento, o -1
+     */
+    private int buscar(T data) {
+        for (int i = 0; i < size; i++) {
+            if (elementos[indiceFisico(i)].equals(data)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Convierte una posición lógica en un índice del arreglo circular
+     */
+    private int indiceFisico(int posicion) {
+        return (frente + posicion) % elementos.length;
+    }
+
+    /**
+     * Duplica la capacidad dejando los elementos en orden desde el índice 0
+     */
+    private void crecer() {
+        Object[] nuevo = new Object[elementos.length * 2];
+        copiarEnOrden(nuevo);
+        elementos = nuevo;
+        frente = 0;
+    }
+
+    private void copiarEnOrden(Object[] destino) {
+        int primerTramo = Math.min(size, elementos.length - frente);
+        System.arraycopy(elementos, frente, destino, 0, primerTramo);
+        System.arraycopy(elementos, 0, destino, primerTramo, size - primerTramo);
+    }
+
+    @SuppressWarnings("unchecked")
+    private T elemento(int indice) {
+        return (T) elementos[indice];
     }
 
     @Override
     public String toString() {
-        return list.toString();
+        if (isEmpty()) {
+            return "[]";
+        }
+
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            sb.append(elementos[indiceFisico(i)]);
+            if (i < size - 1) {
+                sb.append(", ");
+            }
+        }
+        sb.append("]");
+        return sb.toString();
     }
-    
+
 }
@@ -0,0 +1,361 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package EDD;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicMarkableReference;
+
+/**
+ * Skip list ordenada por una clave int (por ejemplo el bloque destino de
+ * una solicitud) que admite claves repetidas. Entre elementos con la misma
+ * clave se respeta el orden de inserción: a cada uno se le asigna un número
+ * de secuencia y el orden real es (clave, secuencia).
+ *
+ * ceiling, floor, pollCeiling y pollFloor son O(log n) esperado.
+ *
+ * Es segura para usarse desde varios hilos sin bloqueos (algoritmo de
+ * Herlihy y Shavit): los enlaces son referencias atómicas con una marca de
+ * borrado lógico, y las búsquedas terminan de desenlazar los nodos marcados
+ * que encuentran en el camino. Solo vaciar requiere que nadie más la esté
+ * usando.
+ *
+ * @param <T>
+ */
+public class SkipList<T> {
+    private static final int NIVEL_MAXIMO = 20; // Alcanza para millones de elementos
+
+    private static final class NodoSkip<T> {
+        private final int clave;
+        private final long secuencia;
+        private final T dato;
+        private final int nivelSuperior;
+        private final AtomicMarkableReference<NodoSkip<T>>[] siguientes;
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        NodoSkip(int clave, long secuencia, T dato, int nivelSuperior) {
+            this.clave = clave;
+            this.secuencia = secuencia;
+            this.dato = dato;
+            this.nivelSuperior = nivelSuperior;
+            this.siguientes = (AtomicMarkableReference<NodoSkip<T>>[]) new AtomicMarkableReference[nivelSuperior + 1];
+            for (int i = 0; i <= nivelSuperior; i++) {
+                siguientes[i] = new AtomicMarkableReference<>(null, false);
+            }
+        }
+
+        boolean esMenorQue(int clave, long secuencia) {
+            return this.clave < clave || (this.clave == clave && this.secuencia < secuencia);
+        }
+    }
+
+    // Centinelas: ningún elemento real queda antes de cabeza ni después de cola,
+    // porque las secuencias reales empiezan en 0
+    private final NodoSkip<T> cabeza;
+    private final NodoSkip<T> cola;
+    private final AtomicLong contadorSecuencia;
+    private final AtomicInteger size;
+
+    public SkipList() {
+        this.cabeza = new NodoSkip<>(Integer.MIN_VALUE, Long.MIN_VALUE, null, NIVEL_MAXIMO);
+        this.cola = new NodoSkip<>(Integer.MAX_VALUE, Long.MAX_VALUE, null, NIVEL_MAXIMO);
+        for (int i = 0; i <= NIVEL_MAXIMO; i++) {
+            cabeza.siguientes[i].set(cola, false);
+        }
+        this.contadorSecuencia = new AtomicLong();
+        this.size = new AtomicInteger();
+    }
+
+    /**
+     * Inserta un elemento con la clave dada. Si ya hay elementos con esa
+     * clave, el nuevo queda después de ellos.
+     */
+    public void insertar(int clave, T dato) {
+        if (dato == null) {
+            throw new IllegalArgumentException("No se permiten elementos null");
+        }
+        int nivelSuperior = nivelAleatorio();
+        long secuencia = contadorSecuencia.getAndIncrement();
+        NodoSkip<T>[] predecesores = nuevoCamino();
+        NodoSkip<T>[] sucesores = nuevoCamino();
+        NodoSkip<T> nuevo = new NodoSkip<>(clave, secuencia, dato, nivelSuperior);
+
+        // El nodo pasa a estar en la lista cuando queda enlazado en el nivel 0
+        do {
+            buscar(clave, secuencia, predecesores, sucesores);
+            for (int nivel = 0; nivel <= nivelSuperior; nivel++) {
+                nuevo.siguientes[nivel].set(sucesores[nivel], false);
+            }
+        } while (!predecesores[0].siguientes[0].compareAndSet(sucesores[0], nuevo, false, false));
+        size.incrementAndGet();
+
+        // Los niveles superiores solo aceleran las búsquedas; se enlazan después
+        boolean[] marca = {false};
+        for (int nivel = 1; nivel <= nivelSuperior; nivel++) {
+            while (true) {
+                NodoSkip<T> siguiente = nuevo.siguientes[nivel].get(marca);
+                if (marca[0]) {
+                    return; // Otro hilo ya lo está eliminando
+                }
+                NodoSkip<T> sucesor = sucesores[nivel];
+                if (siguiente != sucesor
+                        && !nuevo.siguientes[nivel].compareAndSet(siguiente, sucesor, false, false)) {
+                    continue;
+                }
+                if (predecesores[nivel].siguientes[nivel].compareAndSet(sucesor, nuevo, false, false)) {
+                    break;
+                }
+                buscar(clave, secuencia, predecesores, sucesores);
+            }
+        }
+    }
+
+    /**
+     * Retorna el elemento de menor clave mayor o igual a la dada (el más
+     * antiguo si hay varios), o null si no hay ninguno
+     */
+    public T ceiling(int clave) {
+        NodoSkip<T> nodo = nodoCeiling(clave);
+        return nodo == null ? null : nodo.dato;
+    }
+
+    /**
+     * Retorna el elemento de mayor clave menor o igual a la dada (el más
+     * antiguo si hay varios), o null si no hay ninguno
+     */
+    public T floor(int clave) {
+        NodoSkip<T> nodo = nodoFloor(clave);
+        return nodo == null ? null : nodo.dato;
+    }
+
+    /**
+     * Como ceiling, pero además remueve el elemento retornado
+     */
+    public T pollCeiling(int clave) {
+        while (true) {
+            NodoSkip<T> nodo = nodoCeiling(clave);
+            if (nodo == null) {
+                return null;
+            }
+            if (eliminarNodo(nodo)) {
+                return nodo.dato;
+            }
+            // Otro hilo lo removió primero; buscar de nuevo
+        }
+    }
+
+    /**
+     * Como floor, pero además remueve el elemento retornado
+     */
+    public T pollFloor(int clave) {
+        while (true) {
+            NodoSkip<T> nodo = nodoFloor(clave);
+            if (nodo == null) {
+                return null;
+            }
+            if (eliminarNodo(nodo)) {
+                return nodo.dato;
+            }
+        }
+    }
+
+    /**
+     * Elimina un elemento específico que fue insertado con la clave dada.
+     * Solo recorre los elementos que comparten esa clave.
+     *
+     * @return false si el elemento no estaba
+     */
+    public boolean eliminar(int clave, T dato) {
+        NodoSkip<T> actual = nodoCeiling(clave);
+
+        while (actual != null && actual != cola && actual.clave == clave) {
+            if (!actual.siguientes[0].isMarked() && actual.dato.equals(dato) && eliminarNodo(actual)) {
+                return true;
+            }
+            actual = actual.siguientes[0].getReference();
+        }
+        return false;
+    }
+
+    public int getSize() {
+        return size.get();
+    }
+
+    public boolean isEmpty() {
+        return size.get() == 0;
+    }
+
+    /**
+     * Vacía la lista. No debe llamarse mientras otros hilos la usan.
+     */
+    public void vaciar() {
+        for (int i = 0; i <= NIVEL_MAXIMO; i++) {
+            cabeza.siguientes[i].set(cola, false);
+        }
+        size.set(0);
+    }
+
+    private NodoSkip<T> nodoCeiling(int clave) {
+        NodoSkip<T> nodo = siguienteNoBorrado(ultimoMenorQue(clave, Long.MIN_VALUE));
+        return nodo == cola ? null : nodo;
+    }
+
+    private NodoSkip<T> nodoFloor(int clave) {
+        while (true) {
+            // El último menor que (clave, +inf) es el último elemento con esa clave o menor
+            NodoSkip<T> ultimo = ultimoMenorQue(clave, Long.MAX_VALUE);
+            if (ultimo == cabeza) {
+                return null;
+            }
+
+            // Entre los repetidos, retornar el más antiguo
+            NodoSkip<T> primero = nodoCeiling(ultimo.clave);
+            if (primero != null && primero.clave == ultimo.clave) {
+                return primero;
+            }
+            // Todos los de esa clave se removieron mientras tanto; reintentar
+        }
+    }
+
+    /**
+     * Último nodo no borrado menor que (clave, secuencia), o la cabeza.
+     * Solo lee: salta los nodos marcados sin desenlazarlos y no guarda el
+     * camino, así que no crea objetos.
+     */
+    private NodoSkip<T> ultimoMenorQue(int clave, long secuencia) {
+        NodoSkip<T> predecesor = cabeza;
+        for (int nivel = NIVEL_MAXIMO; nivel >= 0; nivel--) {
+            NodoSkip<T> actual = predecesor.siguientes[nivel].getReference();
+            while (true) {
+                // Una referencia marcada ya no cambia, así que leerla aparte de la marca es seguro
+                while (actual.siguientes[nivel].isMarked()) {
+                    actual = actual.siguientes[nivel].getReference();
+                }
+                if (actual.esMenorQue(clave, secuencia)) {
+                    predecesor = actual;
+                    actual = actual.siguientes[nivel].getReference();
+                } else {
+                    break;
+                }
+            }
+        }
+        return predecesor;
+    }
+
+    /**
+     * Primer nodo no borrado después del dado en el nivel 0 (la cola si no hay)
+     */
+    private NodoSkip<T> siguienteNoBorrado(NodoSkip<T> nodo) {
+        NodoSkip<T> actual = nodo.siguientes[0].getReference();
+        while (actual != cola && actual.siguientes[0].isMarked()) {
+            actual = actual.siguientes[0].getReference();
+        }
+        return actual;
+    }
+
+    /**
+     * Marca el nodo como borrado, de arriba hacia abajo, y lo desenlaza.
+     *
+     * @return true si este hilo fue el que lo eliminó
+     */
+    private boolean eliminarNodo(NodoSkip<T> nodo) {
+        boolean[] marca = {false};
+        for (int nivel = nodo.nivelSuperior; nivel >= 1; nivel--) {
+            NodoSkip<T> sucesor = nodo.siguientes[nivel].get(marca);
+            while (!marca[0]) {
+                nodo.siguientes[nivel].compareAndSet(sucesor, sucesor, false, true);
+                sucesor = nodo.siguientes[nivel].get(marca);
+            }
+        }
+
+        // Marcar el nivel 0 es lo que elimina el nodo; solo un hilo lo logra
+        NodoSkip<T> sucesor = nodo.siguientes[0].get(marca);
+        while (true) {
+            boolean marcado = nodo.siguientes[0].compareAndSet(sucesor, sucesor, false, true);
+            sucesor = nodo.siguientes[0].get(marca);
+            if (marcado) {
+                size.decrementAndGet();
+                buscar(nodo.clave, nodo.secuencia, null, null); // Solo para desenlazarlo
+                return true;
+            } else if (marca[0]) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Llena predecesores y sucesores con el último nodo menor que
+     * (clave, secuencia) y el siguiente a él en cada nivel, desenlazando en
+     * el camino los nodos marcados como borrados. Con arreglos null solo
+     * desenlaza.
+     */
+    private void buscar(int clave, long secuencia, NodoSkip<T>[] predecesores, NodoSkip<T>[] sucesores) {
+        boolean[] marca = {false};
+        reintentar:
+        while (true) {
+            NodoSkip<T> predecesor = cabeza;
+            for (int nivel = NIVEL_MAXIMO; nivel >= 0; nivel--) {
+                NodoSkip<T> actual = predecesor.siguientes[nivel].getReference();
+                while (true) {
+                    NodoSkip<T> sucesor = actual.siguientes[nivel].get(marca);
+                    while (marca[0]) {
+                        if (!predecesor.siguientes[nivel].compareAndSet(actual, sucesor, false, false)) {
+                            continue reintentar; // El predecesor cambió o también fue borrado
+                        }
+                        actual = sucesor;
+                        sucesor = actual.siguientes[nivel].get(marca);
+                    }
+                    if (actual.esMenorQue(clave, secuencia)) {
+                        predecesor = actual;
+                        actual = sucesor;
+                    } else {
+                        break;
+                    }
+                }
+                if (predecesores != null) {
+                    predecesores[nivel] = predecesor;
+                    sucesores[nivel] = actual;
+                }
+            }
+            return;
+        }
+    }
+
+    /**
+     * Nivel superior de un nodo nuevo: cada nivel extra con probabilidad 1/2
+     */
+    private static int nivelAleatorio() {
+        int nivel = Integer.numberOfTrailingZeros(ThreadLocalRandom.current().nextInt());
+        return Math.min(nivel, NIVEL_MAXIMO);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private NodoSkip<T>[] nuevoCamino() {
+        return (NodoSkip<T>[]) new NodoSkip[NIVEL_MAXIMO + 1];
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        boolean[] marca = {false};
+        boolean primero = true;
+        NodoSkip<T> actual = cabeza.siguientes[0].getReference();
+        while (actual != cola) {
+            NodoSkip<T> siguiente = actual.siguientes[0].get(marca);
+            if (!marca[0]) {
+                if (!primero) {
+                    sb.append(", ");
+                }
+                sb.append(actual.clave).append("=").append(actual.dato);
+                primero = false;
+            }
+            actual = siguiente;
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+
+}
@@ -0,0 +1,95 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package EDD;
+
+import java.util.ConcurrentModificationException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.IntSupplier;
+
+/**
+ * Spliterator sobre un tramo [indice, limite) de un arreglo, compartido por
+ * las listas respaldadas por arreglos. Se parte siempre por la mitad, así
+ * que las dos partes conocen su tamaño exacto (SIZED y SUBSIZED).
+ *
+ * Si se le pasa el contador de modificaciones de la lista, falla con
+ * ConcurrentModificationException al terminar un recorrido durante el cual
+ * la lista cambió; sin contador, el arreglo se considera inmutable.
+ *
+ * @param <T>
+ */
+final class SpliteratorArreglo<T> implements Spliterator<T> {
+    private final Object[] elementos;
+    private int indice;
+    private final int limite;
+    private final IntSupplier modificaciones; // null si el arreglo no cambia
+    private final int modificacionesEsperadas;
+
+    SpliteratorArreglo(Object[] elementos, int indice, int limite, IntSupplier modificaciones) {
+        this(elementos, indice, limite, modificaciones,
+                modificaciones == null ? 0 : modificaciones.getAsInt());
+    }
+
+    private SpliteratorArreglo(Object[] elementos, int indice, int limite,
+            IntSupplier modificaciones, int modificacionesEsperadas) {
+        this.elementos = elementos;
+        this.indice = indice;
+        this.limite = limite;
+        this.modificaciones = modificaciones;
+        this.modificacionesEsperadas = modificacionesEsperadas;
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        int mitad = (indice + limite) >>> 1;
+        if (indice >= mitad) {
+            return null;
+        }
+        // La primera mitad se entrega; este spliterator se queda con la segunda
+        SpliteratorArreglo<T> prefijo = new SpliteratorArreglo<>(elementos, indice, mitad,
+                modificaciones, modificacionesEsperadas);
+        indice = mitad;
+        return prefijo;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean tryAdvance(Consumer<? super T> accion) {
+        if (indice >= limite) {
+            return false;
+        }
+        accion.accept((T) elementos[indice++]);
+        verificarModificaciones();
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEachRemaining(Consumer<? super T> accion) {
+        for (int i = indice; i < limite; i++) {
+            accion.accept((T) elementos[i]);
+        }
+        indice = limite;
+        verificarModificaciones();
+    }
+
+    @Override
+    public long estimateSize() {
+        return limite - indice;
+    }
+
+    @Override
+    public int characteristics() {
+        int caracteristicas = ORDERED | SIZED | SUBSIZED;
+        return modificaciones == null ? caracteristicas | IMMUTABLE : caracteristicas;
+    }
+
+    private void verificarModificaciones() {
+        if (modificaciones != null && modificaciones.getAsInt() != modificacionesEsperadas) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+}
@@ -0,0 +1,208 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package EDD;
+
+/**
+ * Tabla hash con direccionamiento abierto (sondeo lineal).
+ * Las claves y valores viven en dos arreglos paralelos; las eliminaciones
+ * dejan una marca de borrado para no cortar las cadenas de sondeo. La tabla
+ * se reconstruye cuando las casillas usadas superan el factor de carga.
+ *
+ * @param <K>
+ * @param <V>
+ */
+public class TablaHash<K, V> {
+    private static final int CAPACIDAD_INICIAL = 16; // Siempre potencia de 2
+    private static final float FACTOR_CARGA = 0.75f;
+    private static final Object BORRADO = new Object();
+
+    private Object[] claves;
+    private Object[] valores;
+    private int size; // Pares clave-valor presentes
+    private int usadas; // Casillas no vacías (presentes + borradas)
+    private int umbral;
+
+    public TablaHash() {
+        this(CAPACIDAD_INICIAL);
+    }
+
+    public TablaHash(int capacidadEsperada) {
+        int capacidad = CAPACIDAD_INICIAL;
+        while (capacidad * FACTOR_CARGA < capacidadEsperada) {
+            capacidad *= 2;
+        }
+        inicializar(capacidad);
+    }
+
+    /**
+     * Inserta o reemplaza el valor asociado a una clave
+     *
+     * @return El valor anterior, o null si la clave no existía
+     */
+    public V insertar(K clave, V valor) {
+        if (clave == null) {
+            throw new IllegalArgumentException("La clave no puede ser null");
+        }
+        if (usadas + 1 > umbral) {
+            redimensionar();
+        }
+
+        int mascara = claves.length - 1;
+        int i = indice(clave, mascara);
+        int primerBorrado = -1;
+
+        while (claves[i] != null) {
+            if (claves[i] == BORRADO) {
+                if (primerBorrado == -1) {
+                    primerBorrado = i;
+                }
+            } else if (claves[i].equals(clave)) {
+                V anterior = valor(i);
+                valores[i] = valor;
+                return anterior;
+            }
+            i = (i + 1) & mascara;
+        }
+
+        // Reutilizar la primera casilla borrada del camino si la hubo
+        if (primerBorrado != -1) {
+            i = primerBorrado;
+        } else {
+            usadas++;
+        }
+        claves[i] = clave;
+        valores[i] = valor;
+        size++;
+        return null;
+    }
+
+    /**
+     * Retorna el valor asociado a la clave, o null si no existe
+     */
+    public V get(K clave) {
+        int i = buscar(clave);
+        return i == -1 ? null : valor(i);
+    }
+
+    public boolean contains(K clave) {
+        return buscar(clave) != -1;
+    }
+
+    /**
+     * Elimina una clave
+     *
+     * @return El valor que tenía asociado, o null si no existía
+     */
+    public V remove(K clave) {
+        int i = buscar(clave);
+        if (i == -1) {
+            return null;
+        }
+        V anterior = valor(i);
+        claves[i] = BORRADO;
+        valores[i] = null;
+        size--;
+        return anterior;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void vaciar() {
+        for (int i = 0; i < claves.length; i++) {
+            claves[i] = null;
+            valores[i] = null;
+        }
+        size = 0;
+        usadas = 0;
+    }
+
+    private int buscar(K clave) {
+        if (clave == null) {
+            return -1;
+        }
+        int mascara = claves.length - 1;
+        int i = indice(clave, mascara);
+
+        while (claves[i] != null) {
+            if (claves[i] != BORRADO && claves[i].equals(clave)) {
+                return i;
+            }
+            i = (i + 1) & mascara;
+        }
+        return -1;
+    }
+
+    private static int indice(Object clave, int mascara) {
+        int h = clave.hashCode();
+        // Mezclar los bits altos para que hashCodes parecidos no se amontonen
+        return (h ^ (h >>> 16)) & mascara;
+    }
+
+    /**
+     * Reconstruye la tabla: duplica la capacidad si está llena de elementos
+     * reales, o la reconstruye del mismo tamaño si lo que sobra son borrados.
+     */
+    private void redimensionar() {
+        Object[] clavesViejas = claves;
+        Object[] valoresViejos = valores;
+        int capacidad = clavesViejas.length;
+        if (size + 1 > umbral / 2) {
+            capacidad *= 2;
+        }
+        inicializar(capacidad);
+
+        int mascara = capacidad - 1;
+        for (int j = 0; j < clavesViejas.length; j++) {
+            Object clave = clavesViejas[j];
+            if (clave != null && clave != BORRADO) {
+                int i = indice(clave, mascara);
+                while (claves[i] != null) {
+                    i = (i + 1) & mascara;
+                }
+                claves[i] = clave;
+                valores[i] = valoresViejos[j];
+                size++;
+                usadas++;
+            }
+        }
+    }
+
+    private void inicializar(int capacidad) {
+        claves = new Object[capacidad];
+        valores = new Object[capacidad];
+        size = 0;
+        usadas = 0;
+        umbral = (int) (capacidad * FACTOR_CARGA);
+    }
+
+    @SuppressWarnings("unchecked")
+    private V valor(int i) {
+        return (V) valores[i];
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("{");
+        boolean primero = true;
+        for (int i = 0; i < claves.length; i++) {
+            if (claves[i] != null && claves[i] != BORRADO) {
+                if (!primero) {
+                    sb.append(", ");
+                }
+                sb.append(claves[i]).append("=").append(valores[i]);
+                primero = false;
+            }
+        }
+        sb.append("}");
+        return sb.toString();
+    }
+
+}
@@ -0,0 +1,207 @@
+/*
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Licenses/license-default.txt to change this license
+ * Click nbfs://nbhost/SystemFileSystem/Templates/Classes/Class.java to edit this template
+ */
+package EDD;
+
+/**
+ * Versión de TablaHash con claves int primitivas (por ejemplo IDs de
+ * procesos). Las claves se guardan en un int[] sin boxing y el estado de
+ * cada casilla (vacía, ocupada o borrada) en un byte[].
+ *
+ * @param <V>
+ */
+public class TablaHashInt<V> {
+    private static final int CAPACIDAD_INICIAL = 16; // Siempre potencia de 2
+    private static final float FACTOR_CARGA = 0.75f;
+
+    private static final byte VACIA = 0;
+    private static final byte OCUPADA = 1;
+    private static final byte BORRADA = 2;
+
+    private int[] claves;
+    private Object[] valores;
+    private byte[] estados;
+    private int size; // Pares clave-valor presentes
+    private int usadas; // Casillas no vacías (ocupadas + borradas)
+    private int umbral;
+
+    public TablaHashInt() {
+        this(CAPACIDAD_INICIAL);
+    }
+
+    public TablaHashInt(int capacidadEsperada) {
+        int capacidad = CAPACIDAD_INICIAL;
+        while (capacidad * FACTOR_CARGA < capacidadEsperada) {
+            capacidad *= 2;
+        }
+        inicializar(capacidad);
+    }
+
+    /**
+     * Inserta o reemplaza el valor asociado a una clave
+     *
+     * @return El valor anterior, o null si la clave no existía
+     */
+    public V insertar(int clave, V valor) {
+        if (usadas + 1 > umbral) {
+            redimensionar();
+        }
+
+        int mascara = claves.length - 1;
+        int i = indice(clave, mascara);
+        int primerBorrada = -1;
+
+        while (estados[i] != VACIA) {
+            if (estados[i] == BORRADA) {
+                if (primerBorrada == -1) {
+                    primerBorrada = i;
+                }
+            } else if (claves[i] == clave) {
+                V anterior = valor(i);
+                valores[i] = valor;
+                return anterior;
+            }
+            i = (i + 1) & mascara;
+        }
+
+        // Reutilizar la primera casilla borrada del camino si la hubo
+        if (primerBorrada != -1) {
+            i = primerBorrada;
+        } else {
+            usadas++;
+        }
+        claves[i] = clave;
+        valores[i] = valor;
+        estados[i] = OCUPADA;
+        size++;
+        return null;
+    }
+
+    /**
+     * Retorna el valor asociado a la clave, o null si no existe
+     */
+    public V get(int clave) {
+        int i = buscar(clave);
+        return i == -1 ? null : valor(i);
+    }
+
+    public boolean contains(int clave) {
+        return buscar(clave) != -1;
+    }
+
+    /**
+     * Elimina una clave
+     *
+     * @return El valor que tenía asociado, o null si no existía
+     */
+    public V remove(int clave) {
+        int i = buscar(clave);
+        if (i == -1) {
+            return null;
+        }
+        V anterior = valor(i);
+        estados[i] = BORRADA;
+        valores[i] = null;
+        size--;
+        return anterior;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void vaciar() {
+        for (int i = 0; i < estados.length; i++) {
+            estados[i] = VACIA;
+            valores[i] = null;
+        }
+        size = 0;
+        usadas = 0;
+    }
+
+    private int buscar(int clave) {
+        int mascara = claves.length - 1;
+        int i = indice(clave, mascara);
+
+        while (estados[i] != VACIA) {
+            if (estados[i] == OCUPADA && claves[i] == clave) {
+                return i;
+            }
+            i = (i + 1) & mascara;
+        }
+        return -1;
+    }
+
+    private static int indice(int clave, int mascara) {
+        // Los IDs son consecutivos; multiplicar por una constante impar los dispersa
+        int h = clave * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mascara;
+    }
+
+    /**
+     * Reconstruye la tabla: duplica la capacidad si está llena de elementos
+     * reales, o la reconstruye del mismo tamaño si lo que sobra son borrados.
+     */
+    private void redimensionar() {
+        int[] clavesViejas = claves;
+        Object[] valoresViejos = valores;
+        byte[] estadosViejos = estados;
+        int capacidad = clavesViejas.length;
+        if (size + 1 > umbral / 2) {
+            capacidad *= 2;
+        }
+        inicializar(capacidad);
+
+        int mascara = capacidad - 1;
+        for (int j = 0; j < clavesViejas.length; j++) {
+            if (estadosViejos[j] == OCUPADA) {
+                int i = indice(clavesViejas[j], mascara);
+                while (estados[i] != VACIA) {
+                    i = (i + 1) & mascara;
+                }
+                claves[i] = clavesViejas[j];
+                valores[i] = valoresViejos[j];
+                estados[i] = OCUPADA;
+                size++;
+                usadas++;
+            }
+        }
+    }
+
+    private void inicializar(int capacidad) {
+        claves = new int[capacidad];
+        valores = new Object[capacidad];
+        estados = new byte[capacidad];
+        size = 0;
+        usadas = 0;
+        umbral = (int) (capacidad * FACTOR_CARGA);
+    }
+
+    @SuppressWarnings("unchecked")
+    private V valor(int i) {
+        return (V) valores[i];
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("{");
+        boolean primero = true;
+        for (int i = 0; i < claves.length; i++) {
+            if (estados[i] == OCUPADA) {
+                if (!primero) {
+                    sb.append(", ");
+                }
+                sb.append(claves[i]).append("=").append(valores[i]);
+                primero = false;
+            }
+        }
+        sb.append("}");
+        return sb.toString();
+    }
+
+}
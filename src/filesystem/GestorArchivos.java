@@ -1,6 +1,7 @@
 package filesystem;
 
 import EDD.Lista;
+import EDD.ListaInt;
 import models.Archivo;
 import models.Directorio;
 
@@ -50,7 +51,7 @@ public class GestorArchivos {
         Archivo nuevoArchivo = new Archivo(nombre, tamanoEnBloques, usuarioActual);
 
         // Asignar bloques en el disco
-        Lista<Integer> bloquesAsignados = disco.asignarBloques(nuevoArchivo);
+        ListaInt bloquesAsignados = disco.asignarBloques(nuevoArchivo);
         if (bloquesAsignados == null) {
             System.out.println("Error: Falló la asignación de bloques");
             return false;
@@ -58,6 +59,7 @@ public class GestorArchivos {
 
         // Agregar archivo al directorio
         directorioActual.agregarArchivo(nuevoArchivo);
+        assert totalesAlDia();
 
         System.out.println("Archivo '" + nombre + "' creado exitosamente con " +
                 tamanoEnBloques + " bloques (primer bloque: " +
@@ -83,6 +85,7 @@ public class GestorArchivos {
 
         Directorio nuevoDir = new Directorio(nombre, directorioActual, usuarioActual);
         directorioActual.agregarSubdirectorio(nuevoDir);
+        assert totalesAlDia();
 
         System.out.println("Directorio '" + nombre + "' creado exitosamente");
         return true;
@@ -122,6 +125,7 @@ public class GestorArchivos {
 
         // Eliminar del directorio que lo contiene
         directorioContenedor.eliminarArchivo(nombre);
+        assert totalesAlDia();
 
         System.out.println("Archivo '" + nombre + "' eliminado. " +
                 bloquesLiberados + " bloques liberados");
@@ -141,8 +145,8 @@ public class GestorArchivos {
 
         // Buscar en subdirectorios
         Lista<Directorio> subdirs = dir.getSubdirectorios();
-        for (int i = 0; i < subdirs.getSize(); i++) {
-            Object[] resultado = buscarArchivoYDirectorio(subdirs.get(i), nombre);
+        for (Directorio subdir : subdirs) {
+            Object[] resultado = buscarArchivoYDirectorio(subdir, nombre);
             if (resultado != null) {
                 return resultado;
             }
@@ -172,6 +176,7 @@ public class GestorArchivos {
 
         // Eliminar el directorio del padre
         directorioActual.eliminarSubdirectorio(nombre);
+        assert totalesAlDia();
 
         System.out.println("Directorio '" + nombre + "' eliminado exitosamente");
         return true;
@@ -181,21 +186,17 @@ public class GestorArchivos {
      * Elimina recursivamente todo el contenido de un directorio
      */
     private void eliminarContenidoRecursivo(Directorio dir) {
-        // Eliminar archivos
-        Lista<Archivo> archivos = dir.getArchivos();
-        while (!archivos.isEmpty()) {
-            Archivo archivo = archivos.getFirst();
+        // Liberar los bloques de los archivos
+        for (Archivo archivo : dir.getArchivos()) {
             disco.liberarBloques(archivo.getPrimerBloque());
-            archivos.removeFirst();
         }
 
         // Eliminar subdirectorios recursivamente
-        Lista<Directorio> subdirs = dir.getSubdirectorios();
-        while (!subdirs.isEmpty()) {
-            Directorio subdir = subdirs.getFirst();
+        for (Directorio subdir : dir.getSubdirectorios()) {
             eliminarContenidoRecursivo(subdir);
-            subdirs.removeFirst();
         }
+
+        dir.vaciar();
     }
 
     /**
@@ -211,10 +212,15 @@ public class GestorArchivos {
 
         // Primero buscar en el directorio actual
         Archivo archivo = directorioActual.buscarArchivo(nombreActual);
+        Directorio directorioContenedor = directorioActual;
 
         // Si no está, buscar en todo el sistema
         if (archivo == null) {
-            archivo = buscarArchivoEnSistema(nombreActual);
+            Object[] resultado = buscarArchivoYDirectorio(raiz, nombreActual);
+            if (resultado != null) {
+                archivo = (Archivo) resultado[0];
+                directorioContenedor = (Directorio) resultado[1];
+            }
         }
 
         if (archivo == null) {
@@ -228,13 +234,8 @@ public class GestorArchivos {
             return false;
         }
 
-        // Actualizar nombre en los bloques
-        Lista<Integer> bloques = disco.obtenerCadenaBloquesArchivo(archivo.getPrimerBloque());
-        for (int i = 0; i < bloques.getSize(); i++) {
-            disco.getBloque(bloques.get(i)).setArchivoAsociado(nuevoNombre);
-        }
-
-        archivo.setNombre(nuevoNombre);
+        // Los bloques apuntan al inodo del archivo, así que no hay que tocarlos
+        directorioContenedor.renombrarArchivo(nombreActual, nuevoNombre);
         System.out.println("Archivo renombrado de '" + nombreActual + "' a '" + nuevoNombre + "'");
         return true;
     }
@@ -261,11 +262,46 @@ public class GestorArchivos {
             return false;
         }
 
-        dir.setNombre(nuevoNombre);
+        directorioActual.renombrarSubdirectorio(nombreActual, nuevoNombre);
         System.out.println("Directorio renombrado a '" + nuevoNombre + "'");
         return true;
     }
 
+    /**
+     * Mueve un subdirectorio del directorio actual, con todo su contenido,
+     * a otro directorio.
+     * Solo permitido en modo administrador.
+     */
+    public boolean moverDirectorio(String nombre, Directorio destino) {
+        if (!modoAdministrador) {
+            System.out.println("Error: Solo administradores pueden mover directorios");
+            return false;
+        }
+
+        if (directorioActual.buscarSubdirectorio(nombre) == null) {
+            System.out.println("Error: Directorio no encontrado");
+            return false;
+        }
+
+        if (!directorioActual.moverSubdirectorio(nombre, destino)) {
+            System.out.println("Error: No se puede mover el directorio a '" + destino.getRuta() + "'");
+            return false;
+        }
+        assert totalesAlDia();
+
+        System.out.println("Directorio '" + nombre + "' movido a '" + destino.getRuta() + "'");
+        return true;
+    }
+
+    /**
+     * Si los totales que muestra la interfaz coinciden con un recuento
+     * completo del árbol. Se comprueba con assert después de cada cambio,
+     * así que solo cuesta algo si se ejecuta con -ea.
+     */
+    private boolean totalesAlDia() {
+        return raiz.totalesCoinciden();
+    }
+
     /**
      * Navega a un subdirectorio
      */
@@ -310,14 +346,14 @@ public class GestorArchivos {
     private void obtenerArchivosRecursivo(Directorio dir, Lista<Archivo> lista) {
         // Agregar archivos del directorio actual
         Lista<Archivo> archivos = dir.getArchivos();
-        for (int i = 0; i < archivos.getSize(); i++) {
-            lista.insertarFinal(archivos.get(i));
+        for (Archivo archivo : archivos) {
+            lista.insertarFinal(archivo);
         }
 
         // Recorrer subdirectorios
         Lista<Directorio> subdirs = dir.getSubdirectorios();
-        for (int i = 0; i < subdirs.getSize(); i++) {
-            obtenerArchivosRecursivo(subdirs.get(i), lista);
+        for (Directorio subdir : subdirs) {
+            obtenerArchivosRecursivo(subdir, lista);
         }
     }
 
@@ -336,8 +372,8 @@ public class GestorArchivos {
 
         // Recorrer subdirectorios
         Lista<Directorio> subdirs = dir.getSubdirectorios();
-        for (int i = 0; i < subdirs.getSize(); i++) {
-            obtenerDirectoriosRecursivo(subdirs.get(i), lista);
+        for (Directorio subdir : subdirs) {
+            obtenerDirectoriosRecursivo(subdir, lista);
         }
     }
 
@@ -357,8 +393,8 @@ public class GestorArchivos {
 
         // Buscar en subdirectorios
         Lista<Directorio> subdirs = dir.getSubdirectorios();
-        for (int i = 0; i < subdirs.getSize(); i++) {
-            archivo = buscarArchivoRecursivo(subdirs.get(i), nombre);
+        for (Directorio subdir : subdirs) {
+            archivo = buscarArchivoRecursivo(subdir, nombre);
             if (archivo != null) {
                 return archivo;
             }
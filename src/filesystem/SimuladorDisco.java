@@ -1,30 +1,56 @@
 package filesystem;
 
-import EDD.Lista;
+import EDD.ListaInt;
+import EDD.MapaBits;
+import java.awt.Color;
 import models.Archivo;
 import models.Bloque;
 
 /**
  * Simula el disco con asignación encadenada de bloques.
  * Gestiona la asignación y liberación de bloques para archivos.
+ *
+ * La tabla de bloques se guarda como arreglos paralelos indexados por
+ * número de bloque (siguiente, inodoBloque y el mapa de ocupados) en lugar
+ * de un objeto por bloque: unos 8 bytes por bloque, así que un disco de un
+ * millón de bloques ocupa alrededor de 8 MB. Cada bloque guarda solo el
+ * inodo de su archivo; el nombre y el color se leen del Archivo en la tabla
+ * de inodos, así que renombrar un archivo no toca el disco.
  */
 public class SimuladorDisco {
 
-    public static final int TOTAL_BLOQUES = 100; // Cantidad máxima de bloques
+    public static final int TOTAL_BLOQUES = 100; // Cantidad de bloques del disco por defecto
+
+    private static final int SIN_INODO = -1;
+    private static final int CAPACIDAD_INICIAL_INODOS = 16;
+
+    private final int totalBloques;
+
+    // Tabla de bloques
+    private int[] siguiente; // Siguiente bloque de la cadena (-1 si es el último)
+    private int[] inodoBloque; // Inodo del archivo dueño del bloque (-1 si está libre)
+    private MapaBits ocupados; // Un bit por bloque, encendido si está ocupado
+
+    // Tabla de inodos: archivos con bloques asignados, indexados por inodo
+    private Archivo[] inodos;
+    private int[] inodosLibres; // Pila de inodos liberados, se reutilizan primero
+    private int cantidadInodosLibres;
+    private int inodosUsados; // Inodos entregados alguna vez
 
-    private Bloque[] bloques;
     private int bloquesLibres;
     private int cabezaActual; // Posición actual de la cabeza del disco (para planificadores)
 
     public SimuladorDisco() {
-        this.bloques = new Bloque[TOTAL_BLOQUES];
-        this.bloquesLibres = TOTAL_BLOQUES;
-        this.cabezaActual = 0;
+        this(TOTAL_BLOQUES);
+    }
 
-        // Inicializar todos los bloques como libres
-        for (int i = 0; i < TOTAL_BLOQUES; i++) {
-            bloques[i] = new Bloque(i);
-        }
+    public SimuladorDisco(int totalBloques) {
+        this.totalBloques = totalBloques;
+        this.siguiente = new int[totalBloques];
+        this.inodoBloque = new int[totalBloques];
+        this.ocupados = new MapaBits(totalBloques);
+        this.cabezaActual = 0;
+        reiniciarTablas();
     }
 
     /**
@@ -33,7 +59,7 @@ public class SimuladorDisco {
      * @param archivo El archivo al que asignar bloques
      * @return Lista de IDs de bloques asignados, null si no hay espacio suficiente
      */
-    public Lista<Integer> asignarBloques(Archivo archivo) {
+    public ListaInt asignarBloques(Archivo archivo) {
         int cantidadBloques = archivo.getTamanoEnBloques();
 
         // Verificar si hay suficiente espacio
@@ -41,32 +67,36 @@ public class SimuladorDisco {
             return null;
         }
 
-        Lista<Integer> bloquesAsignados = new Lista<>();
+        ListaInt bloquesAsignados = new ListaInt(cantidadBloques);
+        int inodo = cantidadBloques > 0 ? registrarInodo(archivo) : SIN_INODO;
+        archivo.limpiarExtensiones();
         int bloquesEncontrados = 0;
         int bloqueAnterior = -1;
         int primerBloque = -1;
 
-        // Buscar bloques libres y encadenarlos
-        for (int i = 0; i < TOTAL_BLOQUES && bloquesEncontrados < cantidadBloques; i++) {
-            if (!bloques[i].isOcupado()) {
-                // Asignar este bloque
-                bloques[i].asignar(archivo.getNombre(), archivo.getColor());
-                bloquesAsignados.insertarFinal(i);
-
-                // Guardar el primer bloque
-                if (primerBloque == -1) {
-                    primerBloque = i;
-                }
-
-                // Encadenar con el bloque anterior
-                if (bloqueAnterior != -1) {
-                    bloques[bloqueAnterior].setSiguienteBloque(i);
-                }
+        // Buscar bloques libres y encadenarlos, saltando de hueco en hueco
+        for (int i = ocupados.nextClearBit(0); i != -1 && bloquesEncontrados < cantidadBloques;
+                i = ocupados.nextClearBit(i + 1)) {
+            // Asignar este bloque
+            ocupados.set(i);
+            inodoBloque[i] = inodo;
+            siguiente[i] = -1;
+            bloquesAsignados.insertarFinal(i);
+            archivo.agregarBloqueExtension(i);
+
+            // Guardar el primer bloque
+            if (primerBloque == -1) {
+                primerBloque = i;
+            }
 
-                bloqueAnterior = i;
-                bloquesEncontrados++;
-                bloquesLibres--;
+            // Encadenar con el bloque anterior
+            if (bloqueAnterior != -1) {
+                siguiente[bloqueAnterior] = i;
             }
+
+            bloqueAnterior = i;
+            bloquesEncontrados++;
+            bloquesLibres--;
         }
 
         // Actualizar el archivo con el primer bloque
@@ -82,22 +112,28 @@ public class SimuladorDisco {
      * @return La cantidad de bloques liberados
      */
     public int liberarBloques(int primerBloque) {
-        if (primerBloque < 0 || primerBloque >= TOTAL_BLOQUES) {
+        if (primerBloque < 0 || primerBloque >= totalBloques) {
             return 0;
         }
 
+        int inodo = inodoBloque[primerBloque];
         int bloquesLiberados = 0;
         int bloqueActual = primerBloque;
 
         // Recorrer la cadena de bloques y liberarlos
         while (bloqueActual != -1) {
-            int siguienteBloque = bloques[bloqueActual].getSiguienteBloque();
-            bloques[bloqueActual].liberar();
+            int siguienteBloque = siguiente[bloqueActual];
+            siguiente[bloqueActual] = -1;
+            inodoBloque[bloqueActual] = SIN_INODO;
+            ocupados.clear(bloqueActual);
             bloquesLiberados++;
             bloquesLibres++;
             bloqueActual = siguienteBloque;
         }
 
+        if (inodo != SIN_INODO) {
+            liberarInodo(inodo);
+        }
         return bloquesLiberados;
     }
 
@@ -107,13 +143,13 @@ public class SimuladorDisco {
      * @param primerBloque El primer bloque del archivo
      * @return Lista con los IDs de bloques que forman el archivo
      */
-    public Lista<Integer> obtenerCadenaBloquesArchivo(int primerBloque) {
-        Lista<Integer> cadena = new Lista<>();
+    public ListaInt obtenerCadenaBloquesArchivo(int primerBloque) {
+        ListaInt cadena = new ListaInt();
         int bloqueActual = primerBloque;
 
-        while (bloqueActual != -1 && bloqueActual < TOTAL_BLOQUES) {
+        while (bloqueActual != -1 && bloqueActual < totalBloques) {
             cadena.insertarFinal(bloqueActual);
-            bloqueActual = bloques[bloqueActual].getSiguienteBloque();
+            bloqueActual = siguiente[bloqueActual];
         }
 
         return cadena;
@@ -133,16 +169,15 @@ public class SimuladorDisco {
      * @param cantidad Cantidad de bloques libres a buscar
      * @return Lista con los IDs de los bloques libres, o null si no hay suficientes
      */
-    public Lista<Integer> obtenerProximosBloquesLibres(int cantidad) {
+    public ListaInt obtenerProximosBloquesLibres(int cantidad) {
         if (cantidad > bloquesLibres) {
             return null;
         }
 
-        Lista<Integer> bloquesLibresList = new Lista<>();
-        for (int i = 0; i < TOTAL_BLOQUES && bloquesLibresList.getSize() < cantidad; i++) {
-            if (!bloques[i].isOcupado()) {
-                bloquesLibresList.insertarFinal(i);
-            }
+        ListaInt bloquesLibresList = new ListaInt(cantidad);
+        for (int i = ocupados.nextClearBit(0); i != -1 && bloquesLibresList.getSize() < cantidad;
+                i = ocupados.nextClearBit(i + 1)) {
+            bloquesLibresList.insertarFinal(i);
         }
 
         return bloquesLibresList;
@@ -159,24 +194,74 @@ public class SimuladorDisco {
         return distancia;
     }
 
-    // Getters
-    public Bloque[] getBloques() {
-        return bloques;
+    // Consultas por número de bloque
+
+    public boolean isOcupado(int bloque) {
+        return ocupados.get(bloque);
+    }
+
+    public int getSiguienteBloque(int bloque) {
+        return siguiente[bloque];
+    }
+
+    /**
+     * Archivo dueño del bloque, o null si está libre
+     */
+    public Archivo getArchivo(int bloque) {
+        int inodo = inodoBloque[bloque];
+        return inodo == SIN_INODO ? null : inodos[inodo];
+    }
+
+    /**
+     * Nombre del archivo dueño del bloque, o null si está libre
+     */
+    public String getArchivoAsociado(int bloque) {
+        Archivo archivo = getArchivo(bloque);
+        return archivo == null ? null : archivo.getNombre();
+    }
+
+    /**
+     * Color del archivo dueño del bloque, o blanco si está libre
+     */
+    public Color getColorBloque(int bloque) {
+        Archivo archivo = getArchivo(bloque);
+        return archivo == null ? Color.WHITE : archivo.getColor();
+    }
+
+    /**
+     * Archivo con el inodo dado, o null si el inodo no está en uso
+     */
+    public Archivo getArchivoPorInodo(int inodo) {
+        if (inodo < 0 || inodo >= inodosUsados) {
+            return null;
+        }
+        return inodos[inodo];
     }
 
+    // Getters
+
+    /**
+     * Retorna una vista del bloque sobre la tabla del disco, o null si el
+     * índice está fuera de rango. La vista es liviana y siempre refleja el
+     * estado actual del bloque.
+     */
     public Bloque getBloque(int index) {
-        if (index >= 0 && index < TOTAL_BLOQUES) {
-            return bloques[index];
+        if (index >= 0 && index < totalBloques) {
+            return new Bloque(this, index);
         }
         return null;
     }
 
+    public int getTotalBloques() {
+        return totalBloques;
+    }
+
     public int getBloquesLibres() {
         return bloquesLibres;
     }
 
     public int getBloquesOcupados() {
-        return TOTAL_BLOQUES - bloquesLibres;
+        return totalBloques - bloquesLibres;
     }
 
     public int getCabezaActual() {
@@ -191,24 +276,79 @@ public class SimuladorDisco {
      * Obtiene el porcentaje de uso del disco
      */
     public double getPorcentajeUso() {
-        return ((double) getBloquesOcupados() / TOTAL_BLOQUES) * 100;
+        return ((double) getBloquesOcupados() / totalBloques) * 100;
     }
 
     /**
      * Reinicia el disco liberando todos los bloques
      */
     public void reiniciar() {
-        for (int i = 0; i < TOTAL_BLOQUES; i++) {
-            bloques[i].liberar();
-        }
-        bloquesLibres = TOTAL_BLOQUES;
+        ocupados.vaciar();
+        reiniciarTablas();
         cabezaActual = 0;
     }
 
+    /**
+     * Deja todos los bloques libres y la tabla de inodos vacía
+     */
+    private void reiniciarTablas() {
+        for (int i = 0; i < totalBloques; i++) {
+            siguiente[i] = -1;
+            inodoBloque[i] = SIN_INODO;
+        }
+        if (inodos != null) {
+            for (int i = 0; i < inodosUsados; i++) {
+                if (inodos[i] != null) {
+                    inodos[i].setInodo(SIN_INODO);
+                    inodos[i].limpiarExtensiones();
+                }
+            }
+        }
+        inodos = new Archivo[CAPACIDAD_INICIAL_INODOS];
+        inodosLibres = new int[CAPACIDAD_INICIAL_INODOS];
+        cantidadInodosLibres = 0;
+        inodosUsados = 0;
+        bloquesLibres = totalBloques;
+    }
+
+    /**
+     * Da un inodo al archivo, reutilizando uno liberado si lo hay
+     *
+     * @return El inodo asignado
+     */
+    private int registrarInodo(Archivo archivo) {
+        int inodo;
+        if (cantidadInodosLibres > 0) {
+            inodo = inodosLibres[--cantidadInodosLibres];
+        } else {
+            if (inodosUsados == inodos.length) {
+                Archivo[] nuevos = new Archivo[inodos.length * 2];
+                System.arraycopy(inodos, 0, nuevos, 0, inodosUsados);
+                inodos = nuevos;
+            }
+            inodo = inodosUsados++;
+        }
+        inodos[inodo] = archivo;
+        archivo.setInodo(inodo);
+        return inodo;
+    }
+
+    private void liberarInodo(int inodo) {
+        inodos[inodo].setInodo(SIN_INODO);
+        inodos[inodo].limpiarExtensiones();
+        inodos[inodo] = null;
+        if (cantidadInodosLibres == inodosLibres.length) {
+            int[] nuevos = new int[inodosLibres.length * 2];
+            System.arraycopy(inodosLibres, 0, nuevos, 0, cantidadInodosLibres);
+            inodosLibres = nuevos;
+        }
+        inodosLibres[cantidadInodosLibres++] = inodo;
+    }
+
     @Override
     public String toString() {
         return "SimuladorDisco{" +
-                "totalBloques=" + TOTAL_BLOQUES +
+                "totalBloques=" + totalBloques +
                 ", bloquesLibres=" + bloquesLibres +
                 ", bloquesOcupados=" + getBloquesOcupados() +
                 ", cabezaActual=" + cabezaActual +
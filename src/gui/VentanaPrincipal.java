@@ -9,6 +9,8 @@ import javax.swing.tree.*;
 import javax.swing.table.*;
 import java.awt.*;
 import EDD.Lista;
+import EDD.ListaArreglo;
+import EDD.ListaInt;
 import models.*;
 import filesystem.*;
 import process.GestorProcesos;
@@ -671,19 +673,17 @@ public class VentanaPrincipal extends javax.swing.JFrame {
         int margen = 20;
         int espaciado = 2;
 
-        Bloque[] bloques = disco.getBloques();
+        int totalBloques = disco.getTotalBloques();
 
-        for (int i = 0; i < bloques.length; i++) {
+        for (int i = 0; i < totalBloques; i++) {
             int fila = i / bloquesPorFila;
             int columna = i % bloquesPorFila;
 
             int x = margen + columna * (tamBloque + espaciado);
             int y = margen + fila * (tamBloque + espaciado);
 
-            Bloque bloque = bloques[i];
-
-            if (bloque.isOcupado()) {
-                g2d.setColor(bloque.getColor());
+            if (disco.isOcupado(i)) {
+                g2d.setColor(disco.getColorBloque(i));
             } else {
                 g2d.setColor(Color.LIGHT_GRAY);
             }
@@ -1004,34 +1004,26 @@ public class VentanaPrincipal extends javax.swing.JFrame {
             return;
         }
 
-        StringBuilder ubicacion = new StringBuilder();
-        for (int i = 0; i < path.getPathCount() - 1; i++) {
-            DefaultMutableTreeNode nodoPath = (DefaultMutableTreeNode) path.getPathComponent(i);
-            Object obj = nodoPath.getUserObject();
-            if (obj instanceof Directorio) {
-                Directorio d = (Directorio) obj;
-                if (i == 0) {
-                    ubicacion.append("/");
-                } else {
-                    ubicacion.append(d.getNombre()).append("/");
-                }
-            }
-        }
-        if (ubicacion.length() == 0) {
-            ubicacion.append("/");
-        }
-
         DefaultMutableTreeNode nodo = (DefaultMutableTreeNode) path.getLastPathComponent();
         Object objeto = nodo.getUserObject();
 
+        // Directorio que contiene al elemento seleccionado
+        String ubicacion = "/";
+        if (path.getPathCount() > 1) {
+            DefaultMutableTreeNode nodoPadre = (DefaultMutableTreeNode) path.getPathComponent(path.getPathCount() - 2);
+            if (nodoPadre.getUserObject() instanceof Directorio) {
+                ubicacion = ((Directorio) nodoPadre.getUserObject()).getRuta();
+            }
+        }
+
         if (objeto instanceof Archivo) {
             Archivo archivo = (Archivo) objeto;
             lblInfoNombre.setText("Nombre: " + archivo.getNombre());
             lblInfoTipo.setText("Tipo: Archivo");
-            lblInfoUbicacion.setText("Ubicación: " + ubicacion.toString());
+            lblInfoUbicacion.setText("Ubicación: " + ubicacion);
             lblInfoDetalles1.setText("Bloques: " + archivo.getTamanoEnBloques() + " | Primer BLK: " + archivo.getPrimerBloque());
             lblInfoDetalles2.setText("Propietario: " + archivo.getPropietario());
-            String cadenaBloques = obtenerCadenaBloques(archivo.getPrimerBloque());
+            String cadenaBloques = obtenerCadenaBloques(archivo);
             lblInfoCadenaBLK.setText("Cadena: " + cadenaBloques);
         } else if (objeto instanceof Directorio) {
             Directorio dir = (Directorio) objeto;
@@ -1040,14 +1032,12 @@ public class VentanaPrincipal extends javax.swing.JFrame {
 
             lblInfoNombre.setText("Nombre: " + dir.getNombre());
             lblInfoTipo.setText("Tipo: Directorio");
-            String rutaDir = ubicacion.toString();
-            if (path.getPathCount() > 1) {
-                rutaDir = ubicacion.toString() + dir.getNombre() + "/";
-            }
-            lblInfoUbicacion.setText("Ruta: " + rutaDir);
+            lblInfoUbicacion.setText("Ruta: " + dir.getRuta());
             lblInfoDetalles1.setText("Archivos: " + numArchivos + " | Subdirectorios: " + numSubdirs);
             lblInfoDetalles2.setText("Propietario: " + dir.getPropietario());
-            lblInfoCadenaBLK.setText("");
+            lblInfoCadenaBLK.setText("Total: " + dir.getCantidadArchivosTotal() + " archivos, "
+                    + dir.getCantidadSubdirectoriosTotal() + " subdirectorios, "
+                    + dir.getTamanoTotal() + " bloques");
         } else {
             lblInfoNombre.setText("Seleccione un elemento");
             lblInfoTipo.setText("");
@@ -1083,8 +1073,9 @@ public class VentanaPrincipal extends javax.swing.JFrame {
 
         Lista<Archivo> archivos = gestorArchivos.obtenerTodosLosArchivos();
         String[] nombresArchivos = new String[archivos.getSize()];
-        for (int i = 0; i < archivos.getSize(); i++) {
-            nombresArchivos[i] = archivos.get(i).getNombre();
+        int indiceArchivo = 0;
+        for (Archivo archivo : archivos) {
+            nombresArchivos[indiceArchivo++] = archivo.getNombre();
         }
         JComboBox<String> comboArchivo = new JComboBox<>(nombresArchivos);
         gbc.gridx = 1; gbc.gridy = 1;
@@ -1110,12 +1101,12 @@ public class VentanaPrincipal extends javax.swing.JFrame {
 
         Lista<Directorio> directorios = gestorArchivos.obtenerTodosLosDirectorios();
         String[] nombresDirectorios = new String[directorios.getSize()];
-        for (int i = 0; i < directorios.getSize(); i++) {
-            Directorio dir = directorios.get(i);
+        int indiceDirectorio = 0;
+        for (Directorio dir : directorios) {
             if (dir == gestorArchivos.getRaiz()) {
-                nombresDirectorios[i] = "/ (raíz)";
+                nombresDirectorios[indiceDirectorio++] = "/ (raíz)";
             } else {
-                nombresDirectorios[i] = dir.getNombre();
+                nombresDirectorios[indiceDirectorio++] = dir.getNombre();
             }
         }
         JComboBox<String> comboDirectorio = new JComboBox<>(nombresDirectorios);
@@ -1209,7 +1200,7 @@ public class VentanaPrincipal extends javax.swing.JFrame {
             return;
         }
 
-        Lista<Integer> bloquesLibres = disco.obtenerProximosBloquesLibres(tamano);
+        ListaInt bloquesLibres = disco.obtenerProximosBloquesLibres(tamano);
         if (bloquesLibres == null || bloquesLibres.getSize() < tamano) {
             JOptionPane.showMessageDialog(this,
                     "No se pudieron obtener los bloques necesarios.",
@@ -1260,8 +1251,6 @@ public class VentanaPrincipal extends javax.swing.JFrame {
             return;
         }
 
-        Lista<Integer> bloques = disco.obtenerCadenaBloquesArchivo(archivo.getPrimerBloque());
-
         String nombreProceso;
         String mensaje;
         switch (operacion) {
@@ -1288,7 +1277,7 @@ public class VentanaPrincipal extends javax.swing.JFrame {
                 archivo.getNombre(),
                 gestorArchivos.getUsuarioActual());
 
-        gestorProcesos.agregarSolicitudesParaArchivo(proceso, bloques, operacion);
+        gestorProcesos.agregarSolicitudesParaArchivo(proceso, archivo, operacion);
 
         actualizarTodo();
 
@@ -1359,7 +1348,7 @@ public class VentanaPrincipal extends javax.swing.JFrame {
                 return;
             }
 
-            Lista<Integer> bloquesLibres = disco.obtenerProximosBloquesLibres(tamano);
+            ListaInt bloquesLibres = disco.obtenerProximosBloquesLibres(tamano);
             if (bloquesLibres == null || bloquesLibres.getSize() < tamano) {
                 return;
             }
@@ -1390,8 +1379,7 @@ public class VentanaPrincipal extends javax.swing.JFrame {
         }
 
         Lista<Archivo> archivosDisponibles = new Lista<>();
-        for (int i = 0; i < archivos.getSize(); i++) {
-            Archivo arch = archivos.get(i);
+        for (Archivo arch : archivos) {
             if (!gestorProcesos.hayEliminacionPendiente(arch.getNombre())) {
                 archivosDisponibles.insertarFinal(arch);
             }
@@ -1404,8 +1392,6 @@ public class VentanaPrincipal extends javax.swing.JFrame {
         int index = (int) (Math.random() * archivosDisponibles.getSize());
         Archivo archivo = archivosDisponibles.get(index);
 
-        Lista<Integer> bloques = disco.obtenerCadenaBloquesArchivo(archivo.getPrimerBloque());
-
         String nombreProceso;
         switch (operacion) {
             case LEER:
@@ -1427,7 +1413,7 @@ public class VentanaPrincipal extends javax.swing.JFrame {
                 archivo.getNombre(),
                 gestorArchivos.getUsuarioActual());
 
-        gestorProcesos.agregarSolicitudesParaArchivo(proceso, bloques, operacion);
+        gestorProcesos.agregarSolicitudesParaArchivo(proceso, archivo, operacion);
     }
 
     private void crearDirectorioAleatorio() {
@@ -1558,16 +1544,14 @@ public class VentanaPrincipal extends javax.swing.JFrame {
 
     private void construirArbolRecursivo(DefaultMutableTreeNode nodoPadre, Directorio dir) {
         Lista<Directorio> subdirs = dir.getSubdirectorios();
-        for (int i = 0; i < subdirs.getSize(); i++) {
-            Directorio subdir = subdirs.get(i);
+        for (Directorio subdir : subdirs) {
             DefaultMutableTreeNode nodoDir = new DefaultMutableTreeNode(subdir);
             nodoPadre.add(nodoDir);
             construirArbolRecursivo(nodoDir, subdir);
         }
 
         Lista<Archivo> archivos = dir.getArchivos();
-        for (int i = 0; i < archivos.getSize(); i++) {
-            Archivo archivo = archivos.get(i);
+        for (Archivo archivo : archivos) {
             DefaultMutableTreeNode nodoArchivo = new DefaultMutableTreeNode(archivo);
             nodoPadre.add(nodoArchivo);
         }
@@ -1583,9 +1567,8 @@ public class VentanaPrincipal extends javax.swing.JFrame {
         modeloTabla.setRowCount(0);
 
         Lista<Archivo> archivos = gestorArchivos.obtenerTodosLosArchivos();
-        for (int i = 0; i < archivos.getSize(); i++) {
-            Archivo archivo = archivos.get(i);
-            String cadenaBloques = obtenerCadenaBloques(archivo.getPrimerBloque());
+        for (Archivo archivo : archivos) {
+            String cadenaBloques = obtenerCadenaBloques(archivo);
             modeloTabla.addRow(new Object[] {
                     archivo.getNombre(),
                     archivo.getTamanoEnBloques(),
@@ -1600,8 +1583,7 @@ public class VentanaPrincipal extends javax.swing.JFrame {
     private void actualizarTablaFAT() {
         modeloTablaFAT.setRowCount(0);
 
-        Bloque[] bloques = disco.getBloques();
-        int totalBloques = bloques.length;
+        int totalBloques = disco.getTotalBloques();
         int bloquesPorFila = 10;
 
         for (int fila = 0; fila < totalBloques / bloquesPorFila; fila++) {
@@ -1610,12 +1592,10 @@ public class VentanaPrincipal extends javax.swing.JFrame {
 
             for (int col = 0; col < bloquesPorFila; col++) {
                 int bloqueIndex = fila * bloquesPorFila + col;
-                Bloque bloque = bloques[bloqueIndex];
-
-                if (!bloque.isOcupado()) {
+                if (!disco.isOcupado(bloqueIndex)) {
                     rowData[col + 1] = "LIBRE";
                 } else {
-                    int siguiente = bloque.getSiguienteBloque();
+                    int siguiente = disco.getSiguienteBloque(bloqueIndex);
                     if (siguiente == -1) {
                         rowData[col + 1] = "EOF";
                     } else {
@@ -1637,32 +1617,22 @@ public class VentanaPrincipal extends javax.swing.JFrame {
         panelDisco.repaint();
     }
     
-    private String obtenerCadenaBloques(int primerBloque) {
-        if (primerBloque < 0) {
-            return "";
-        }
-
-        Lista<Integer> bloques = disco.obtenerCadenaBloquesArchivo(primerBloque);
-        if (bloques == null || bloques.isEmpty()) {
-            return "";
-        }
-
+    private String obtenerCadenaBloques(Archivo archivo) {
         StringBuilder sb = new StringBuilder();
-        for (int i = 0; i < bloques.getSize(); i++) {
-            if (i > 0) {
+        archivo.forEachBloque(bloque -> {
+            if (sb.length() > 0) {
                 sb.append(" → ");
             }
-            sb.append(bloques.get(i));
-        }
+            sb.append(bloque);
+        });
         return sb.toString();
     }
 
     private void actualizarTablaProcesos() {
         modeloTablaProcesos.setRowCount(0);
 
-        Lista<Proceso> procesos = gestorProcesos.getProcesos();
-        for (int i = 0; i < procesos.getSize(); i++) {
-            Proceso p = procesos.get(i);
+        ListaArreglo<Proceso> procesos = gestorProcesos.getProcesos();
+        for (Proceso p : procesos) {
             modeloTablaProcesos.addRow(new Object[] {
                     "P" + p.getId(),
                     p.getOperacion(),
@@ -1676,10 +1646,10 @@ public class VentanaPrincipal extends javax.swing.JFrame {
         modeloTablaColaIO.setRowCount(0);
 
         Lista<SolicitudIO> solicitudes = gestorProcesos.obtenerSolicitudesOrdenadas();
-        for (int i = 0; i < solicitudes.getSize(); i++) {
-            SolicitudIO s = solicitudes.get(i);
+        int posicion = 0;
+        for (SolicitudIO s : solicitudes) {
             modeloTablaColaIO.addRow(new Object[] {
-                    (i + 1),
+                    ++posicion,
                     "P" + s.getProceso().getId(),
                     "BLK " + s.getBloqueDestino(),
                     s.getTipoOperacion()
@@ -1689,7 +1659,7 @@ public class VentanaPrincipal extends javax.swing.JFrame {
 
     private void actualizarEstadoDisco() {
         int ocupados = disco.getBloquesOcupados();
-        int total = SimuladorDisco.TOTAL_BLOQUES;
+        int total = disco.getTotalBloques();
         double porcentaje = disco.getPorcentajeUso();
 
         lblEstadoDisco.setText(String.format("Disco: %d/%d bloques ocupados (%.1f%%)",
@@ -1702,7 +1672,7 @@ public class VentanaPrincipal extends javax.swing.JFrame {
         lblSolicitudesPendientes.setText("Solicitudes pendientes: " + gestorProcesos.getCantidadSolicitudesPendientes());
     }
 
-    private String bloquesToString(Lista<Integer> bloques) {
+    private String bloquesToString(ListaInt bloques) {
         if (bloques == null || bloques.isEmpty()) {
             return "[]";
         }
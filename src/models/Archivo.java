@@ -2,14 +2,18 @@ package models;
 
 import java.awt.Color;
 import java.util.Random;
+import java.util.function.IntConsumer;
 
 /**
  * Representa un archivo en el sistema de archivos simulado.
  */
 public class Archivo {
+    private int inodo; // Número de inodo en el disco (-1 si no tiene bloques asignados)
     private String nombre;
     private int tamanoEnBloques; // Cantidad de bloques que ocupa
     private int primerBloque; // Dirección del primer bloque en el disco
+    private int[] extensiones; // Tramos de bloques contiguos como pares (inicio, longitud), en orden de la cadena
+    private int cantidadExtensiones;
     private String propietario; // Usuario que creó el archivo
     private boolean esPublico; // Si es accesible por todos los usuarios
     private Color color; // Color para visualización
@@ -17,9 +21,12 @@ public class Archivo {
     private long fechaModificacion;
 
     public Archivo(String nombre, int tamanoEnBloques, String propietario) {
+        this.inodo = -1; // Lo asigna el disco junto con los bloques
         this.nombre = nombre;
         this.tamanoEnBloques = tamanoEnBloques;
         this.primerBloque = -1; // Se asigna cuando se crean los bloques
+        this.extensiones = new int[2];
+        this.cantidadExtensiones = 0;
         this.propietario = propietario;
         this.esPublico = false;
         this.color = generarColorAleatorio();
@@ -40,6 +47,14 @@ public class Archivo {
     }
 
     // Getters y Setters
+    public int getInodo() {
+        return inodo;
+    }
+
+    public void setInodo(int inodo) {
+        this.inodo = inodo;
+    }
+
     public String getNombre() {
         return nombre;
     }
@@ -65,6 +80,69 @@ public class Archivo {
         this.primerBloque = primerBloque;
     }
 
+    // Extensiones: copia de la cadena de bloques que mantiene el disco
+
+    public int getCantidadExtensiones() {
+        return cantidadExtensiones;
+    }
+
+    public int getInicioExtension(int indice) {
+        if (indice < 0 || indice >= cantidadExtensiones) {
+            throw new IndexOutOfBoundsException("Índice fuera de rango");
+        }
+        return extensiones[2 * indice];
+    }
+
+    public int getLongitudExtension(int indice) {
+        if (indice < 0 || indice >= cantidadExtensiones) {
+            throw new IndexOutOfBoundsException("Índice fuera de rango");
+        }
+        return extensiones[2 * indice + 1];
+    }
+
+    /**
+     * Recorre los bloques del archivo en el orden de la cadena, sin
+     * consultar el disco
+     */
+    public void forEachBloque(IntConsumer accion) {
+        for (int i = 0; i < cantidadExtensiones; i++) {
+            int inicio = extensiones[2 * i];
+            int fin = inicio + extensiones[2 * i + 1];
+            for (int bloque = inicio; bloque < fin; bloque++) {
+                accion.accept(bloque);
+            }
+        }
+    }
+
+    /**
+     * Agrega un bloque al final de la cadena, extendiendo el último tramo
+     * si es contiguo. Solo lo usa el disco al asignar bloques.
+     */
+    public void agregarBloqueExtension(int bloque) {
+        if (cantidadExtensiones > 0) {
+            int ultimo = 2 * (cantidadExtensiones - 1);
+            if (extensiones[ultimo] + extensiones[ultimo + 1] == bloque) {
+                extensiones[ultimo + 1]++;
+                return;
+            }
+        }
+        if (2 * cantidadExtensiones == extensiones.length) {
+            int[] nuevas = new int[extensiones.length * 2];
+            System.arraycopy(extensiones, 0, nuevas, 0, extensiones.length);
+            extensiones = nuevas;
+        }
+        extensiones[2 * cantidadExtensiones] = bloque;
+        extensiones[2 * cantidadExtensiones + 1] = 1;
+        cantidadExtensiones++;
+    }
+
+    /**
+     * Olvida las extensiones, cuando el disco libera los bloques
+     */
+    public void limpiarExtensiones() {
+        cantidadExtensiones = 0;
+    }
+
     public String getPropietario() {
         return propietario;
     }
@@ -1,93 +1,62 @@
 package models;
 
+import filesystem.SimuladorDisco;
 import java.awt.Color;
 
 /**
  * Representa un bloque de almacenamiento en el disco simulado.
  * Usado en la asignación encadenada.
+ *
+ * Es una vista de solo lectura sobre la tabla de bloques del disco: no
+ * guarda estado propio, así que siempre refleja el estado actual del
+ * bloque. Los cambios se hacen a través de SimuladorDisco.
  */
 public class Bloque {
-    private int id; // Número de bloque (0 a N-1)
-    private boolean ocupado; // Si está ocupado o libre
-    private int siguienteBloque; // Puntero al siguiente bloque (-1 si es el último)
-    private String archivoAsociado; // Nombre del archivo que ocupa este bloque
-    private Color color; // Color para visualización
+    private final SimuladorDisco disco;
+    private final int id; // Número de bloque (0 a N-1)
 
-    public Bloque(int id) {
+    public Bloque(SimuladorDisco disco, int id) {
+        this.disco = disco;
         this.id = id;
-        this.ocupado = false;
-        this.siguienteBloque = -1;
-        this.archivoAsociado = null;
-        this.color = Color.WHITE; // Blanco = libre
     }
 
-    // Getters y Setters
+    // Getters
     public int getId() {
         return id;
     }
 
-    public void setId(int id) {
-        this.id = id;
-    }
-
     public boolean isOcupado() {
-        return ocupado;
-    }
-
-    public void setOcupado(boolean ocupado) {
-        this.ocupado = ocupado;
+        return disco.isOcupado(id);
     }
 
+    /**
+     * Puntero al siguiente bloque (-1 si es el último)
+     */
     public int getSiguienteBloque() {
-        return siguienteBloque;
-    }
-
-    public void setSiguienteBloque(int siguienteBloque) {
-        this.siguienteBloque = siguienteBloque;
-    }
-
-    public String getArchivoAsociado() {
-        return archivoAsociado;
-    }
-
-    public void setArchivoAsociado(String archivoAsociado) {
-        this.archivoAsociado = archivoAsociado;
-    }
-
-    public Color getColor() {
-        return color;
-    }
-
-    public void setColor(Color color) {
-        this.color = color;
+        return disco.getSiguienteBloque(id);
     }
 
     /**
-     * Libera el bloque para que pueda ser reutilizado
+     * Nombre del archivo que ocupa este bloque, null si está libre
      */
-    public void liberar() {
-        this.ocupado = false;
-        this.siguienteBloque = -1;
-        this.archivoAsociado = null;
-        this.color = Color.WHITE;
+    public String getArchivoAsociado() {
+        return disco.getArchivoAsociado(id);
     }
 
     /**
-     * Asigna el bloque a un archivo
+     * Color para visualización (blanco = libre)
      */
-    public void asignar(String nombreArchivo, Color color) {
-        this.ocupado = true;
-        this.archivoAsociado = nombreArchivo;
-        this.color = color;
+    public Color getColor() {
+        return disco.getColorBloque(id);
     }
 
     @Override
     public String toString() {
         return "Bloque{" +
                 "id=" + id +
-                ", ocupado=" + ocupado +
-                ", siguiente=" + siguienteBloque +
-                ", archivo='" + archivoAsociado + '\'' +
+                ", ocupado=" + isOcupado() +
+                ", siguiente=" + getSiguienteBloque() +
+                ", archivo='" + getArchivoAsociado() + '\'' +
                 '}';
     }
 }
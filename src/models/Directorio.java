@@ -1,16 +1,53 @@
 package models;
 
 import EDD.Lista;
+import EDD.ListaArreglo;
+import EDD.ListaInt;
+import EDD.Nodo;
+import EDD.Queue;
+import EDD.TablaHash;
 
 /**
  * Representa un directorio en el sistema de archivos simulado.
  * Contiene archivos y subdirectorios.
+ *
+ * Además de las listas (que conservan el orden de creación), cada hijo se
+ * indexa por nombre apuntando a su nodo en la lista, así que buscar,
+ * agregar y eliminar son O(1). Los nombres son únicos dentro de cada lista.
+ * Para mantener los índices al día, los hijos se agregan, eliminan y
+ * renombran solo a través de los métodos de esta clase; las listas que
+ * retornan getArchivos y getSubdirectorios son para recorrerlas.
+ *
+ * Cada directorio guarda también los totales de su subárbol (bloques,
+ * archivos y subdirectorios). Agregar o eliminar un hijo suma su
+ * diferencia hacia arriba por la cadena de padres, así que consultar los
+ * totales es O(1) y cada cambio cuesta O(profundidad). El tamaño de un
+ * archivo no cambia mientras está en un directorio.
+ *
+ * La ruta, la profundidad y el hash de la ruta se guardan en caché. Al
+ * renombrar o mover un directorio se invalida la caché de ese directorio y
+ * de su subárbol, y nada más; el recorrido se detiene en los que ya estaban
+ * invalidados, porque los descendientes de un directorio invalidado también
+ * lo están. Consultar un directorio con la caché válida es O(1), aunque se
+ * hayan renombrado o movido directorios en otras ramas.
  */
 public class Directorio {
     private String nombre;
     private Directorio padre; // Directorio padre (null si es raíz)
     private Lista<Directorio> subdirectorios; // Lista de subdirectorios
     private Lista<Archivo> archivos; // Lista de archivos en este directorio
+    private TablaHash<String, Nodo<Directorio>> subdirectoriosPorNombre;
+    private TablaHash<String, Nodo<Archivo>> archivosPorNombre;
+    private int bloquesTotales; // Bloques de todos los archivos del subárbol
+    private int archivosTotales; // Archivos en el subárbol
+    private int subdirectoriosTotales; // Subdirectorios en el subárbol, sin contar este
+
+    // Caché de la ruta
+    private String rutaCompleta; // "/root/a/b"
+    private String ruta; // "/a/b/", relativa a la raíz, como la muestra la interfaz
+    private int profundidad; // 0 para la raíz
+    private int hashRuta;
+    private boolean rutaValida; // Si es true, la de todos los ancestros también
     private String propietario;
     private long fechaCreacion;
 
@@ -19,6 +56,8 @@ public class Directorio {
         this.padre = padre;
         this.subdirectorios = new Lista<>();
         this.archivos = new Lista<>();
+        this.subdirectoriosPorNombre = new TablaHash<>();
+        this.archivosPorNombre = new TablaHash<>();
         this.propietario = propietario;
         this.fechaCreacion = System.currentTimeMillis();
     }
@@ -27,97 +66,303 @@ public class Directorio {
      * Agrega un subdirectorio
      */
     public void agregarSubdirectorio(Directorio dir) {
-        subdirectorios.insertarFinal(dir);
+        subdirectoriosPorNombre.insertar(dir.getNombre(), subdirectorios.insertarFinal(dir));
+        dir.setPadre(this);
+        propagar(dir.bloquesTotales, dir.archivosTotales, dir.subdirectoriosTotales + 1);
     }
 
     /**
      * Agrega un archivo al directorio
      */
     public void agregarArchivo(Archivo archivo) {
-        archivos.insertarFinal(archivo);
+        archivosPorNombre.insertar(archivo.getNombre(), archivos.insertarFinal(archivo));
+        propagar(archivo.getTamanoEnBloques(), 1, 0);
     }
 
     /**
      * Elimina un subdirectorio por nombre
      */
     public boolean eliminarSubdirectorio(String nombreDir) {
-        for (int i = 0; i < subdirectorios.getSize(); i++) {
-            Directorio dir = subdirectorios.get(i);
-            if (dir.getNombre().equals(nombreDir)) {
-                subdirectorios.remove(i);
-                return true;
-            }
+        Nodo<Directorio> nodo = subdirectoriosPorNombre.remove(nombreDir);
+        if (nodo == null) {
+            return false;
         }
-        return false;
+        Directorio dir = subdirectorios.removeNode(nodo);
+        propagar(-dir.bloquesTotales, -dir.archivosTotales, -(dir.subdirectoriosTotales + 1));
+        return true;
     }
 
     /**
      * Elimina un archivo por nombre
      */
     public boolean eliminarArchivo(String nombreArchivo) {
-        for (int i = 0; i < archivos.getSize(); i++) {
-            Archivo archivo = archivos.get(i);
-            if (archivo.getNombre().equals(nombreArchivo)) {
-                archivos.remove(i);
-                return true;
+        Nodo<Archivo> nodo = archivosPorNombre.remove(nombreArchivo);
+        if (nodo == null) {
+            return false;
+        }
+        Archivo archivo = archivos.removeNode(nodo);
+        propagar(-archivo.getTamanoEnBloques(), -1, 0);
+        return true;
+    }
+
+    /**
+     * Mueve un subdirectorio, con todo su contenido, a otro directorio.
+     * Falla si no existe, si el destino ya tiene un subdirectorio con ese
+     * nombre o si el destino está dentro del directorio que se mueve.
+     */
+    public boolean moverSubdirectorio(String nombreDir, Directorio destino) {
+        Directorio dir = buscarSubdirectorio(nombreDir);
+        if (dir == null || destino.buscarSubdirectorio(nombreDir) != null) {
+            return false;
+        }
+        for (Directorio ancestro = destino; ancestro != null; ancestro = ancestro.padre) {
+            if (ancestro == dir) {
+                return false;
             }
         }
-        return false;
+
+        eliminarSubdirectorio(nombreDir);
+        destino.agregarSubdirectorio(dir);
+        return true;
+    }
+
+    /**
+     * Quita todos los archivos y subdirectorios
+     */
+    public void vaciar() {
+        archivos.vaciar();
+        subdirectorios.vaciar();
+        archivosPorNombre.vaciar();
+        subdirectoriosPorNombre.vaciar();
+        propagar(-bloquesTotales, -archivosTotales, -subdirectoriosTotales);
+    }
+
+    /**
+     * Suma las diferencias a los totales de este directorio y de todos sus
+     * ancestros
+     */
+    private void propagar(int bloques, int cantidadArchivos, int cantidadSubdirectorios) {
+        for (Directorio dir = this; dir != null; dir = dir.padre) {
+            dir.bloquesTotales += bloques;
+            dir.archivosTotales += cantidadArchivos;
+            dir.subdirectoriosTotales += cantidadSubdirectorios;
+        }
     }
 
     /**
      * Busca un subdirectorio por nombre
      */
     public Directorio buscarSubdirectorio(String nombreDir) {
-        for (int i = 0; i < subdirectorios.getSize(); i++) {
-            Directorio dir = subdirectorios.get(i);
-            if (dir.getNombre().equals(nombreDir)) {
-                return dir;
-            }
-        }
-        return null;
+        Nodo<Directorio> nodo = subdirectoriosPorNombre.get(nombreDir);
+        return nodo == null ? null : nodo.getData();
     }
 
     /**
      * Busca un archivo por nombre
      */
     public Archivo buscarArchivo(String nombreArchivo) {
-        for (int i = 0; i < archivos.getSize(); i++) {
-            Archivo archivo = archivos.get(i);
-            if (archivo.getNombre().equals(nombreArchivo)) {
-                return archivo;
-            }
+        Nodo<Archivo> nodo = archivosPorNombre.get(nombreArchivo);
+        return nodo == null ? null : nodo.getData();
+    }
+
+    /**
+     * Renombra un subdirectorio, conservando su posición en la lista
+     *
+     * @return false si no existe o si el nuevo nombre ya está en uso
+     */
+    public boolean renombrarSubdirectorio(String nombreActual, String nuevoNombre) {
+        if (subdirectoriosPorNombre.contains(nuevoNombre)) {
+            return false;
         }
-        return null;
+        Nodo<Directorio> nodo = subdirectoriosPorNombre.remove(nombreActual);
+        if (nodo == null) {
+            return false;
+        }
+        nodo.getData().setNombre(nuevoNombre);
+        subdirectoriosPorNombre.insertar(nuevoNombre, nodo);
+        return true;
     }
 
     /**
-     * Obtiene la ruta completa del directorio
+     * Renombra un archivo, conservando su posición en la lista
+     *
+     * @return false si no existe o si el nuevo nombre ya está en uso
+     */
+    public boolean renombrarArchivo(String nombreActual, String nuevoNombre) {
+        if (archivosPorNombre.contains(nuevoNombre)) {
+            return false;
+        }
+        Nodo<Archivo> nodo = archivosPorNombre.remove(nombreActual);
+        if (nodo == null) {
+            return false;
+        }
+        nodo.getData().setNombre(nuevoNombre);
+        archivosPorNombre.insertar(nuevoNombre, nodo);
+        return true;
+    }
+
+    /**
+     * Obtiene la ruta completa del directorio, incluyendo la raíz
      */
     public String getRutaCompleta() {
+        validarRuta();
+        return rutaCompleta;
+    }
+
+    /**
+     * Ruta relativa a la raíz terminada en "/" ("/" para la raíz misma)
+     */
+    public String getRuta() {
+        validarRuta();
+        return ruta;
+    }
+
+    /**
+     * Cantidad de ancestros (0 para la raíz)
+     */
+    public int getProfundidad() {
+        validarRuta();
+        return profundidad;
+    }
+
+    /**
+     * Hash de la secuencia de nombres desde la raíz, para indexar por ruta
+     */
+    public int getHashRuta() {
+        validarRuta();
+        return hashRuta;
+    }
+
+    /**
+     * Recalcula la caché de la ruta si este directorio o algún ancestro
+     * cambió de nombre o de padre. Si la caché es válida retorna en O(1). Si
+     * no, sube sin recursión hasta el primer ancestro con la caché válida y
+     * recalcula de arriba hacia abajo los que quedaron invalidados.
+     */
+    private void validarRuta() {
+        if (rutaValida) {
+            return;
+        }
+
+        int pendientes = 0;
+        for (Directorio dir = this; dir != null && !dir.rutaValida; dir = dir.padre) {
+            pendientes++;
+        }
+        Directorio[] camino = new Directorio[pendientes];
+        Directorio dir = this;
+        for (int i = pendientes - 1; i >= 0; i--) {
+            camino[i] = dir;
+            dir = dir.padre;
+        }
+
+        for (Directorio actual : camino) {
+            actual.recalcularRuta();
+        }
+    }
+
+    /**
+     * Recalcula la ruta a partir de la del padre, que ya debe estar al día
+     */
+    private void recalcularRuta() {
         if (padre == null) {
-            return "/" + nombre;
+            rutaCompleta = "/" + nombre;
+            ruta = "/";
+            profundidad = 0;
+            hashRuta = nombre.hashCode();
+        } else {
+            rutaCompleta = padre.rutaCompleta + "/" + nombre;
+            ruta = padre.ruta + nombre + "/";
+            profundidad = padre.profundidad + 1;
+            hashRuta = 31 * padre.hashRuta + nombre.hashCode();
         }
-        return padre.getRutaCompleta() + "/" + nombre;
+        rutaValida = true;
     }
 
     /**
-     * Calcula el tamaño total en bloques del directorio y su contenido
+     * Invalida la caché de la ruta de este directorio y de su subárbol, sin
+     * recursión. No entra en los subárboles que ya estaban invalidados.
      */
-    public int getTamanoTotal() {
-        int total = 0;
+    private void invalidarRuta() {
+        if (!rutaValida) {
+            return;
+        }
 
-        // Sumar tamaño de archivos
-        for (int i = 0; i < archivos.getSize(); i++) {
-            total += archivos.get(i).getTamanoEnBloques();
+        rutaValida = false;
+        Queue<Directorio> pendientes = new Queue<>();
+        pendientes.enqueue(this);
+        while (!pendientes.isEmpty()) {
+            for (Directorio hijo : pendientes.dequeue().subdirectorios) {
+                if (hijo.rutaValida) {
+                    hijo.rutaValida = false;
+                    pendientes.enqueue(hijo);
+                }
+            }
         }
+    }
 
-        // Sumar tamaño de subdirectorios recursivamente
-        for (int i = 0; i < subdirectorios.getSize(); i++) {
-            total += subdirectorios.get(i).getTamanoTotal();
+    /**
+     * Tamaño total en bloques del directorio y su contenido, sin recorrerlo
+     */
+    public int getTamanoTotal() {
+        return bloquesTotales;
+    }
+
+    /**
+     * Cantidad de archivos en el directorio y todos sus subdirectorios
+     */
+    public int getCantidadArchivosTotal() {
+        return archivosTotales;
+    }
+
+    /**
+     * Cantidad de subdirectorios por debajo de este, a cualquier profundidad
+     */
+    public int getCantidadSubdirectoriosTotal() {
+        return subdirectoriosTotales;
+    }
+
+    /**
+     * Vuelve a contar, sin recursión, los totales de cada directorio del
+     * subárbol y los compara con los guardados. Es O(tamaño del subárbol);
+     * sirve para verificar que agregar, eliminar y mover los mantienen al día.
+     */
+    public boolean totalesCoinciden() {
+        // Directorios en orden por niveles, con la posición de su padre
+        ListaArreglo<Directorio> orden = new ListaArreglo<>();
+        ListaInt padres = new ListaInt();
+        orden.insertarFinal(this);
+        padres.insertarFinal(-1);
+        for (int i = 0; i < orden.getSize(); i++) {
+            for (Directorio hijo : orden.get(i).subdirectorios) {
+                orden.insertarFinal(hijo);
+                padres.insertarFinal(i);
+            }
         }
 
-        return total;
+        // De abajo hacia arriba, cada directorio suma lo suyo al padre
+        int cantidad = orden.getSize();
+        int[] bloques = new int[cantidad];
+        int[] cantidadArchivos = new int[cantidad];
+        int[] cantidadSubdirectorios = new int[cantidad];
+        for (int i = cantidad - 1; i >= 0; i--) {
+            Directorio dir = orden.get(i);
+            for (Archivo archivo : dir.archivos) {
+                bloques[i] += archivo.getTamanoEnBloques();
+                cantidadArchivos[i]++;
+            }
+            if (bloques[i] != dir.bloquesTotales
+                    || cantidadArchivos[i] != dir.archivosTotales
+                    || cantidadSubdirectorios[i] != dir.subdirectoriosTotales) {
+                return false;
+            }
+            int padreIndice = padres.get(i);
+            if (padreIndice >= 0) {
+                bloques[padreIndice] += bloques[i];
+                cantidadArchivos[padreIndice] += cantidadArchivos[i];
+                cantidadSubdirectorios[padreIndice] += cantidadSubdirectorios[i] + 1;
+            }
+        }
+        return true;
     }
 
     // Getters y Setters
@@ -125,8 +370,13 @@ public class Directorio {
         return nombre;
     }
 
+    /**
+     * Cambia solo el nombre; si el directorio tiene padre, usar
+     * padre.renombrarSubdirectorio para que el índice del padre siga al día
+     */
     public void setNombre(String nombre) {
         this.nombre = nombre;
+        invalidarRuta();
     }
 
     public Directorio getPadre() {
@@ -134,7 +384,10 @@ public class Directorio {
     }
 
     public void setPadre(Directorio padre) {
-        this.padre = padre;
+        if (this.padre != padre) {
+            this.padre = padre;
+            invalidarRuta();
+        }
     }
 
     public Lista<Directorio> getSubdirectorios() {
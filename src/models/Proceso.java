@@ -37,6 +37,8 @@ public class Proceso {
     private int tamanoEnBloques; // Para operaciones CREAR, cuántos bloques asignar
     private boolean operacionEjecutada; // Si ya se ejecutó la operación real
     private Directorio directorioDestino; // Directorio donde se creará el archivo (para CREAR)
+    private SolicitudIO primeraSolicitudPendiente; // Lista enlazada por las propias solicitudes
+    private int cantidadSolicitudesPendientes;
 
     public Proceso(String nombre, TipoOperacion operacion, String archivoObjetivo, String propietario) {
         this.id = ++contadorId;
@@ -164,6 +166,54 @@ public class Proceso {
         this.directorioDestino = directorioDestino;
     }
 
+    // Solicitudes pendientes: las agrega y quita el gestor de procesos al
+    // mover solicitudes de la cola de pendientes
+
+    public int getCantidadSolicitudesPendientes() {
+        return cantidadSolicitudesPendientes;
+    }
+
+    public boolean tieneSolicitudesPendientes() {
+        return cantidadSolicitudesPendientes > 0;
+    }
+
+    /**
+     * Primera solicitud pendiente del proceso (las demás se recorren con
+     * SolicitudIO.getSiguienteDelProceso), o null si no tiene
+     */
+    public SolicitudIO getPrimeraSolicitudPendiente() {
+        return primeraSolicitudPendiente;
+    }
+
+    public void agregarSolicitudPendiente(SolicitudIO solicitud) {
+        solicitud.setAnteriorDelProceso(null);
+        solicitud.setSiguienteDelProceso(primeraSolicitudPendiente);
+        if (primeraSolicitudPendiente != null) {
+            primeraSolicitudPendiente.setAnteriorDelProceso(solicitud);
+        }
+        primeraSolicitudPendiente = solicitud;
+        cantidadSolicitudesPendientes++;
+    }
+
+    /**
+     * Quita en O(1) una solicitud agregada con agregarSolicitudPendiente
+     */
+    public void quitarSolicitudPendiente(SolicitudIO solicitud) {
+        SolicitudIO anterior = solicitud.getAnteriorDelProceso();
+        SolicitudIO siguiente = solicitud.getSiguienteDelProceso();
+        if (anterior != null) {
+            anterior.setSiguienteDelProceso(siguiente);
+        } else {
+            primeraSolicitudPendiente = siguiente;
+        }
+        if (siguiente != null) {
+            siguiente.setAnteriorDelProceso(anterior);
+        }
+        solicitud.setAnteriorDelProceso(null);
+        solicitud.setSiguienteDelProceso(null);
+        cantidadSolicitudesPendientes--;
+    }
+
     public static void resetContador() {
         contadorId = 0;
     }
@@ -1,12 +1,22 @@
 package models;
 
+import EDD.Nodo;
+import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * Representa una solicitud de E/S en la cola del disco.
  * Asocia un proceso con el bloque que necesita acceder.
  */
 public class SolicitudIO {
 
-    private static int contadorId = 0;
+    /**
+     * Orden ascendente por bloque destino, usado por los planificadores
+     */
+    public static final Comparator<SolicitudIO> POR_BLOQUE = Comparator.comparingInt(SolicitudIO::getBloqueDestino);
+
+    // Atómico porque las solicitudes pueden crearse desde varios hilos productores
+    private static final AtomicInteger contadorId = new AtomicInteger();
 
     private int id;
     private Proceso proceso; // Proceso que genera la solicitud
@@ -15,8 +25,13 @@ public class SolicitudIO {
     private long tiempoLlegada;
     private boolean atendida;
 
+    // Manejadores mientras está pendiente
+    private Nodo<SolicitudIO> nodoPendiente; // Nodo en la cola de pendientes, null si no está en ella
+    private SolicitudIO anteriorDelProceso; // Enlaces en las pendientes de su proceso
+    private SolicitudIO siguienteDelProceso;
+
     public SolicitudIO(Proceso proceso, int bloqueDestino, Proceso.TipoOperacion tipoOperacion) {
-        this.id = ++contadorId;
+        this.id = contadorId.incrementAndGet();
         this.proceso = proceso;
         this.bloqueDestino = bloqueDestino;
         this.tipoOperacion = tipoOperacion;
@@ -65,8 +80,32 @@ public class SolicitudIO {
         this.atendida = atendida;
     }
 
+    public Nodo<SolicitudIO> getNodoPendiente() {
+        return nodoPendiente;
+    }
+
+    public void setNodoPendiente(Nodo<SolicitudIO> nodoPendiente) {
+        this.nodoPendiente = nodoPendiente;
+    }
+
+    public SolicitudIO getAnteriorDelProceso() {
+        return anteriorDelProceso;
+    }
+
+    void setAnteriorDelProceso(SolicitudIO anteriorDelProceso) {
+        this.anteriorDelProceso = anteriorDelProceso;
+    }
+
+    public SolicitudIO getSiguienteDelProceso() {
+        return siguienteDelProceso;
+    }
+
+    void setSiguienteDelProceso(SolicitudIO siguienteDelProceso) {
+        this.siguienteDelProceso = siguienteDelProceso;
+    }
+
     public static void resetContador() {
-        contadorId = 0;
+        contadorId.set(0);
     }
 
     @Override
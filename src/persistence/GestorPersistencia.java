@@ -1,6 +1,9 @@
 package persistence;
 
 import EDD.Lista;
+import EDD.ListaArreglo;
+import EDD.ListaCopiaEscritura;
+import EDD.TablaHashInt;
 import models.Proceso;
 import models.SolicitudIO;
 import process.GestorProcesos;
@@ -33,9 +36,8 @@ public class GestorPersistencia {
             writer.println("=== PROCESOS ===");
             writer.println("id,nombre,estado,operacion,archivoObjetivo,propietario,tamanoEnBloques,operacionEjecutada");
 
-            Lista<Proceso> procesos = gestorProcesos.getProcesos();
-            for (int i = 0; i < procesos.getSize(); i++) {
-                Proceso p = procesos.get(i);
+            ListaArreglo<Proceso> procesos = gestorProcesos.getProcesos();
+            for (Proceso p : procesos) {
                 // Guardar TODOS los procesos como BLOQUEADO y operacionEjecutada=false
                 // para que puedan re-ejecutarse al cargar
                 String linea = p.getId() + SEPARADOR +
@@ -56,9 +58,8 @@ public class GestorPersistencia {
             writer.println("id,procesoId,bloqueDestino,tipoOperacion,atendida");
 
             // Primero las pendientes actuales
-            Lista<SolicitudIO> pendientes = gestorProcesos.getSolicitudesPendientes();
-            for (int i = 0; i < pendientes.getSize(); i++) {
-                SolicitudIO s = pendientes.get(i);
+            ListaCopiaEscritura.Instantanea<SolicitudIO> pendientes = gestorProcesos.getSolicitudesPendientes();
+            for (SolicitudIO s : pendientes) {
                 String linea = s.getId() + SEPARADOR +
                         s.getProceso().getId() + SEPARADOR +
                         s.getBloqueDestino() + SEPARADOR +
@@ -68,9 +69,8 @@ public class GestorPersistencia {
             }
 
             // Luego las atendidas (también como pendientes para re-ejecutar)
-            Lista<SolicitudIO> atendidas = gestorProcesos.getSolicitudesAtendidas();
-            for (int i = 0; i < atendidas.getSize(); i++) {
-                SolicitudIO s = atendidas.get(i);
+            ListaCopiaEscritura.Instantanea<SolicitudIO> atendidas = gestorProcesos.getSolicitudesAtendidas();
+            for (SolicitudIO s : atendidas) {
                 String linea = s.getId() + SEPARADOR +
                         s.getProceso().getId() + SEPARADOR +
                         s.getBloqueDestino() + SEPARADOR +
@@ -121,7 +121,7 @@ public class GestorPersistencia {
             gestorProcesos.limpiarTodo();
 
             // Mapa temporal para asociar procesos por ID
-            Lista<Proceso> procesosTemp = new Lista<>();
+            TablaHashInt<Proceso> procesosTemp = new TablaHashInt<>();
 
             String linea;
             String seccionActual = "";
@@ -173,7 +173,7 @@ public class GestorPersistencia {
                     case "PROCESOS":
                         Proceso proceso = cargarProceso(linea);
                         if (proceso != null) {
-                            procesosTemp.insertarFinal(proceso);
+                            procesosTemp.insertar(proceso.getId(), proceso);
                             gestorProcesos.agregarProcesoDirecto(proceso);
                         }
                         break;
@@ -228,8 +228,9 @@ public class GestorPersistencia {
         valores.insertarFinal(valorActual.toString());
 
         String[] resultado = new String[valores.getSize()];
-        for (int i = 0; i < valores.getSize(); i++) {
-            resultado[i] = valores.get(i);
+        int indice = 0;
+        for (String valor : valores) {
+            resultado[indice++] = valor;
         }
         return resultado;
     }
@@ -264,7 +265,7 @@ public class GestorPersistencia {
     /**
      * Carga una solicitud desde una línea CSV
      */
-    private static void cargarSolicitud(String linea, Lista<Proceso> procesos,
+    private static void cargarSolicitud(String linea, TablaHashInt<Proceso> procesos,
             GestorProcesos gestorProcesos, boolean esAtendida) {
         String[] partes = parsearCSV(linea);
         // id,procesoId,bloqueDestino,tipoOperacion,atendida
@@ -274,13 +275,7 @@ public class GestorPersistencia {
             Proceso.TipoOperacion tipoOperacion = Proceso.TipoOperacion.valueOf(partes[3]);
 
             // Buscar el proceso correspondiente
-            Proceso proceso = null;
-            for (int i = 0; i < procesos.getSize(); i++) {
-                if (procesos.get(i).getId() == procesoId) {
-                    proceso = procesos.get(i);
-                    break;
-                }
-            }
+            Proceso proceso = procesos.get(procesoId);
 
             if (proceso != null) {
                 if (esAtendida) {
@@ -1,7 +1,14 @@
 package process;
 
+import EDD.ColaMPSC;
 import EDD.Lista;
+import EDD.ListaArreglo;
+import EDD.ListaCopiaEscritura;
+import EDD.ListaInt;
+import EDD.Nodo;
+import EDD.SkipList;
 import EDD.Queue;
+import EDD.TablaHashInt;
 import models.Proceso;
 import models.SolicitudIO;
 import models.Archivo;
@@ -17,9 +24,19 @@ import filesystem.SimuladorDisco;
  */
 public class GestorProcesos {
 
-    private Lista<Proceso> procesos; // Todos los procesos
+    // Nodos de la cola de pendientes que se reutilizan entre encolar y despachar.
+    // Solo cubre la Lista: cada solicitud encolada sigue creando su entrada en
+    // pendientesPorBloque (el nodo de la SkipList, una referencia por nivel y
+    // los caminos de la búsqueda)
+    private static final int NODOS_LIBRES_PENDIENTES = 256;
+
+    private ListaArreglo<Proceso> procesos; // Todos los procesos (acceso por índice O(1))
+    private TablaHashInt<Proceso> procesosPorId; // Índice de procesos por ID
     private Lista<SolicitudIO> solicitudesPendientes; // Solicitudes en espera
-    private Lista<SolicitudIO> solicitudesAtendidas; // Historial de atendidas
+    private SkipList<Nodo<SolicitudIO>> pendientesPorBloque; // Nodos de pendientes, por bloque destino
+    private ListaCopiaEscritura<SolicitudIO> pendientesPublicadas; // Las pendientes en orden de llegada, para leerlas por instantáneas
+    private ColaMPSC<SolicitudIO> solicitudesEntrantes; // Enviadas desde otros hilos, aún sin recibir
+    private ListaCopiaEscritura<SolicitudIO> solicitudesAtendidas; // Historial de atendidas
     private PlanificadorDisco planificador;
     private Proceso procesoActual; // Proceso en ejecución
     private int posicionCabeza; // Posición de la cabeza del disco
@@ -33,9 +50,13 @@ public class GestorProcesos {
     private int movimientosTotales;
 
     public GestorProcesos() {
-        this.procesos = new Lista<>();
-        this.solicitudesPendientes = new Lista<>();
-        this.solicitudesAtendidas = new Lista<>();
+        this.procesos = new ListaArreglo<>();
+        this.procesosPorId = new TablaHashInt<>();
+        this.solicitudesPendientes = new Lista<>(NODOS_LIBRES_PENDIENTES);
+        this.pendientesPorBloque = new SkipList<>();
+        this.pendientesPublicadas = new ListaCopiaEscritura<>();
+        this.solicitudesEntrantes = new ColaMPSC<>();
+        this.solicitudesAtendidas = new ListaCopiaEscritura<>();
         this.planificador = new FIFO(); // Planificador por defecto
         this.procesoActual = null;
         this.posicionCabeza = 0;
@@ -61,6 +82,7 @@ public class GestorProcesos {
         Proceso proceso = new Proceso(nombre, operacion, archivoObjetivo, propietario);
         proceso.cambiarEstado(Proceso.Estado.LISTO);
         procesos.insertarFinal(proceso);
+        procesosPorId.insertar(proceso.getId(), proceso);
         return proceso;
     }
 
@@ -70,35 +92,96 @@ public class GestorProcesos {
     public void agregarSolicitudES(Proceso proceso, int bloqueDestino,
             Proceso.TipoOperacion tipoOperacion) {
         SolicitudIO solicitud = new SolicitudIO(proceso, bloqueDestino, tipoOperacion);
-        solicitudesPendientes.insertarFinal(solicitud);
+        agregarPendiente(solicitud);
         proceso.cambiarEstado(Proceso.Estado.BLOQUEADO);
     }
 
+    /**
+     * Envía una solicitud de E/S desde cualquier hilo sin bloquearse.
+     * La solicitud queda en la cola de entrada hasta que el despachador
+     * la recibe al inicio de su siguiente paso.
+     */
+    public void enviarSolicitudES(Proceso proceso, int bloqueDestino,
+            Proceso.TipoOperacion tipoOperacion) {
+        solicitudesEntrantes.enqueue(new SolicitudIO(proceso, bloqueDestino, tipoOperacion));
+    }
+
+    /**
+     * Pasa a la cola de pendientes, en un solo lote, todas las solicitudes
+     * enviadas con enviarSolicitudES desde el paso anterior.
+     * Solo se llama desde el hilo del despachador.
+     */
+    private void recibirSolicitudesEntrantes() {
+        SolicitudIO solicitud;
+        while ((solicitud = solicitudesEntrantes.poll()) != null) {
+            agregarPendiente(solicitud);
+            solicitud.getProceso().cambiarEstado(Proceso.Estado.BLOQUEADO);
+        }
+    }
+
+    /**
+     * Agrega una solicitud a la cola de pendientes, a su índice por bloque,
+     * a las publicadas y a las pendientes de su proceso
+     */
+    private void agregarPendiente(SolicitudIO solicitud) {
+        Nodo<SolicitudIO> nodo = solicitudesPendientes.insertarFinal(solicitud);
+        pendientesPorBloque.insertar(solicitud.getBloqueDestino(), nodo);
+        pendientesPublicadas.insertarFinal(solicitud);
+        solicitud.setNodoPendiente(nodo);
+        solicitud.getProceso().agregarSolicitudPendiente(solicitud);
+    }
+
+    /**
+     * Quita una solicitud de la cola de pendientes, de su índice por bloque,
+     * de las publicadas y de las pendientes de su proceso
+     */
+    private void quitarPendiente(Nodo<SolicitudIO> nodo) {
+        SolicitudIO solicitud = nodo.getData();
+        pendientesPorBloque.eliminar(solicitud.getBloqueDestino(), nodo);
+        pendientesPublicadas.remove(solicitud);
+        solicitud.getProceso().quitarSolicitudPendiente(solicitud);
+        solicitud.setNodoPendiente(null);
+        solicitudesPendientes.removeNode(nodo);
+    }
+
     /**
      * Agrega múltiples solicitudes para todos los bloques de un archivo
      */
-    public void agregarSolicitudesParaArchivo(Proceso proceso, Lista<Integer> bloques,
+    public void agregarSolicitudesParaArchivo(Proceso proceso, ListaInt bloques,
             Proceso.TipoOperacion tipoOperacion) {
         for (int i = 0; i < bloques.getSize(); i++) {
             agregarSolicitudES(proceso, bloques.get(i), tipoOperacion);
         }
     }
 
+    /**
+     * Agrega una solicitud por cada bloque del archivo, leyendo sus
+     * extensiones en lugar de recorrer la cadena en el disco
+     */
+    public void agregarSolicitudesParaArchivo(Proceso proceso, Archivo archivo,
+            Proceso.TipoOperacion tipoOperacion) {
+        archivo.forEachBloque(bloque -> agregarSolicitudES(proceso, bloque, tipoOperacion));
+    }
+
     /**
      * Procesa la siguiente solicitud según el planificador activo
      * 
      * @return La solicitud atendida, o null si no hay solicitudes
      */
     public SolicitudIO procesarSiguienteSolicitud() {
+        recibirSolicitudesEntrantes();
         if (solicitudesPendientes.isEmpty()) {
             return null;
         }
 
         // Usar el planificador para seleccionar la siguiente solicitud
-        SolicitudIO solicitud = planificador.seleccionarSiguiente(
-                solicitudesPendientes, posicionCabeza);
+        Nodo<SolicitudIO> nodo = planificador.seleccionarNodo(
+                solicitudesPendientes, pendientesPorBloque, posicionCabeza);
+        SolicitudIO solicitud = null;
+
+        if (nodo != null) {
+            solicitud = nodo.getData();
 
-        if (solicitud != null) {
             // Calcular y acumular el movimiento de la cabeza
             int distancia = Math.abs(solicitud.getBloqueDestino() - posicionCabeza);
             movimientosTotales += distancia;
@@ -108,7 +191,7 @@ public class GestorProcesos {
 
             // Marcar como atendida y mover al historial
             solicitud.setAtendida(true);
-            solicitudesPendientes.remove(solicitud);
+            quitarPendiente(nodo);
             solicitudesAtendidas.insertarFinal(solicitud);
 
             // Actualizar estado del proceso
@@ -120,7 +203,7 @@ public class GestorProcesos {
             totalSolicitudesAtendidas++;
 
             // Verificar si el proceso terminó todas sus solicitudes
-            if (!tieneSolicitudesPendientes(proceso)) {
+            if (!proceso.tieneSolicitudesPendientes()) {
                 // Ejecutar la operación real cuando el proceso termina
                 ejecutarOperacionReal(proceso);
                 proceso.cambiarEstado(Proceso.Estado.TERMINADO);
@@ -191,19 +274,15 @@ public class GestorProcesos {
      * Verifica si un proceso tiene solicitudes pendientes
      */
     public boolean tieneSolicitudesPendientes(Proceso proceso) {
-        for (int i = 0; i < solicitudesPendientes.getSize(); i++) {
-            if (solicitudesPendientes.get(i).getProceso().getId() == proceso.getId()) {
-                return true;
-            }
-        }
-        return false;
+        return proceso.tieneSolicitudesPendientes();
     }
 
     /**
      * Obtiene todas las solicitudes ordenadas según el planificador actual
      */
     public Lista<SolicitudIO> obtenerSolicitudesOrdenadas() {
-        return planificador.ordenarCola(solicitudesPendientes, posicionCabeza);
+        recibirSolicitudesEntrantes();
+        return planificador.ordenarCola(getSolicitudesPendientes(), posicionCabeza);
     }
 
     /**
@@ -218,8 +297,7 @@ public class GestorProcesos {
      */
     public Lista<Proceso> obtenerProcesosPorEstado(Proceso.Estado estado) {
         Lista<Proceso> resultado = new Lista<>();
-        for (int i = 0; i < procesos.getSize(); i++) {
-            Proceso p = procesos.get(i);
+        for (Proceso p : procesos) {
             if (p.getEstado() == estado) {
                 resultado.insertarFinal(p);
             }
@@ -231,8 +309,7 @@ public class GestorProcesos {
      * Verifica si hay un proceso pendiente de ELIMINAR para un archivo específico
      */
     public boolean hayEliminacionPendiente(String nombreArchivo) {
-        for (int i = 0; i < procesos.getSize(); i++) {
-            Proceso p = procesos.get(i);
+        for (Proceso p : procesos) {
             if (p.getEstado() != Proceso.Estado.TERMINADO &&
                     p.getOperacion() == Proceso.TipoOperacion.ELIMINAR &&
                     p.getArchivoObjetivo().equals(nombreArchivo)) {
@@ -246,8 +323,7 @@ public class GestorProcesos {
      * Verifica si hay un proceso pendiente de CREAR un archivo con ese nombre
      */
     public boolean hayCreacionPendiente(String nombreArchivo) {
-        for (int i = 0; i < procesos.getSize(); i++) {
-            Proceso p = procesos.get(i);
+        for (Proceso p : procesos) {
             if (p.getEstado() != Proceso.Estado.TERMINADO &&
                     p.getOperacion() == Proceso.TipoOperacion.CREAR &&
                     p.getArchivoObjetivo().equals(nombreArchivo)) {
@@ -284,13 +360,9 @@ public class GestorProcesos {
      * Obtiene la cantidad de procesos por estado
      */
     public int contarProcesosPorEstado(Proceso.Estado estado) {
-        int contador = 0;
-        for (int i = 0; i < procesos.getSize(); i++) {
-            if (procesos.get(i).getEstado() == estado) {
-                contador++;
-            }
-        }
-        return contador;
+        return (int) procesos.stream()
+                .filter(proceso -> proceso.getEstado() == estado)
+                .count();
     }
 
     /**
@@ -302,11 +374,10 @@ public class GestorProcesos {
             return false;
         }
 
-        // Eliminar solicitudes pendientes del proceso
-        for (int i = solicitudesPendientes.getSize() - 1; i >= 0; i--) {
-            if (solicitudesPendientes.get(i).getProceso().getId() == idProceso) {
-                solicitudesPendientes.remove(i);
-            }
+        // Eliminar solicitudes pendientes del proceso, sin recorrer la cola
+        SolicitudIO solicitud;
+        while ((solicitud = proceso.getPrimeraSolicitudPendiente()) != null) {
+            quitarPendiente(solicitud.getNodoPendiente());
         }
 
         proceso.cambiarEstado(Proceso.Estado.TERMINADO);
@@ -321,26 +392,19 @@ public class GestorProcesos {
      * Busca un proceso por su ID
      */
     public Proceso buscarProceso(int id) {
-        for (int i = 0; i < procesos.getSize(); i++) {
-            if (procesos.get(i).getId() == id) {
-                return procesos.get(i);
-            }
-        }
-        return null;
+        return procesosPorId.get(id);
     }
 
     /**
      * Limpia procesos terminados del sistema
      */
     public int limpiarProcesosTerminados() {
-        int eliminados = 0;
-        for (int i = procesos.getSize() - 1; i >= 0; i--) {
-            if (procesos.get(i).getEstado() == Proceso.Estado.TERMINADO) {
-                procesos.remove(i);
-                eliminados++;
+        for (Proceso proceso : procesos) {
+            if (proceso.getEstado() == Proceso.Estado.TERMINADO) {
+                procesosPorId.remove(proceso.getId());
             }
         }
-        return eliminados;
+        return procesos.removeIf(p -> p.getEstado() == Proceso.Estado.TERMINADO);
     }
 
     /**
@@ -357,7 +421,13 @@ public class GestorProcesos {
      */
     public void limpiarTodo() {
         procesos.vaciar();
+        procesosPorId.vaciar();
         solicitudesPendientes.vaciar();
+        pendientesPorBloque.vaciar();
+        pendientesPublicadas.vaciar();
+        while (solicitudesEntrantes.poll() != null) {
+            // Descartar las solicitudes que aún no se habían recibido
+        }
         solicitudesAtendidas.vaciar();
         procesoActual = null;
         posicionCabeza = 0;
@@ -371,6 +441,7 @@ public class GestorProcesos {
      */
     public void agregarProcesoDirecto(Proceso proceso) {
         procesos.insertarFinal(proceso);
+        procesosPorId.insertar(proceso.getId(), proceso);
     }
 
     /**
@@ -384,16 +455,25 @@ public class GestorProcesos {
     }
 
     // Getters
-    public Lista<Proceso> getProcesos() {
+    public ListaArreglo<Proceso> getProcesos() {
         return procesos;
     }
 
-    public Lista<SolicitudIO> getSolicitudesPendientes() {
-        return solicitudesPendientes;
+    /**
+     * Retorna una instantánea inmutable de las pendientes en orden de
+     * llegada, en O(1). Se puede recorrer sin copiarla aunque se sigan
+     * encolando y despachando solicitudes.
+     */
+    public ListaCopiaEscritura.Instantanea<SolicitudIO> getSolicitudesPendientes() {
+        return pendientesPublicadas.instantanea();
     }
 
-    public Lista<SolicitudIO> getSolicitudesAtendidas() {
-        return solicitudesAtendidas;
+    /**
+     * Retorna una instantánea inmutable del historial, en O(1). Puede
+     * recorrerse mientras se siguen atendiendo solicitudes.
+     */
+    public ListaCopiaEscritura.Instantanea<SolicitudIO> getSolicitudesAtendidas() {
+        return solicitudesAtendidas.instantanea();
     }
 
     public PlanificadorDisco getPlanificador() {
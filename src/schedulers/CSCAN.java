@@ -1,6 +1,9 @@
 package schedulers;
 
 import EDD.Lista;
+import EDD.ListaCopiaEscritura;
+import EDD.Nodo;
+import EDD.SkipList;
 import models.SolicitudIO;
 
 /**
@@ -22,32 +25,32 @@ public class CSCAN implements PlanificadorDisco {
     }
 
     @Override
-    public SolicitudIO seleccionarSiguiente(Lista<SolicitudIO> cola, int posicionCabeza) {
+    public Nodo<SolicitudIO> seleccionarNodo(Lista<SolicitudIO> cola, int posicionCabeza) {
         if (cola.isEmpty()) {
             return null;
         }
 
-        SolicitudIO seleccionada = null;
+        Nodo<SolicitudIO> seleccionada = null;
         int menorDistanciaAdelante = Integer.MAX_VALUE;
         int menorBloqueAtras = Integer.MAX_VALUE;
-        SolicitudIO seleccionadaAtras = null;
+        Nodo<SolicitudIO> seleccionadaAtras = null;
 
         // Primero buscar solicitudes >= posicionCabeza (hacia adelante)
-        for (int i = 0; i < cola.getSize(); i++) {
-            SolicitudIO solicitud = cola.get(i);
+        for (Nodo<SolicitudIO> nodo = cola.getHead(); nodo != null; nodo = nodo.getNext()) {
+            SolicitudIO solicitud = nodo.getData();
             int bloque = solicitud.getBloqueDestino();
 
             if (bloque >= posicionCabeza) {
                 int distancia = bloque - posicionCabeza;
                 if (distancia < menorDistanciaAdelante) {
                     menorDistanciaAdelante = distancia;
-                    seleccionada = solicitud;
+                    seleccionada = nodo;
                 }
             } else {
                 // Guardar la menor para cuando haya que volver al inicio
                 if (bloque < menorBloqueAtras) {
                     menorBloqueAtras = bloque;
-                    seleccionadaAtras = solicitud;
+                    seleccionadaAtras = nodo;
                 }
             }
         }
@@ -61,15 +64,27 @@ public class CSCAN implements PlanificadorDisco {
     }
 
     @Override
-    public Lista<SolicitudIO> ordenarCola(Lista<SolicitudIO> cola, int posicionCabeza) {
+    public Nodo<SolicitudIO> seleccionarNodo(Lista<SolicitudIO> cola,
+            SkipList<Nodo<SolicitudIO>> indicePorBloque, int posicionCabeza) {
+        Nodo<SolicitudIO> seleccionada = indicePorBloque.ceiling(posicionCabeza);
+
+        // Si no hay solicitudes adelante, ir al inicio (menor bloque)
+        if (seleccionada == null) {
+            seleccionada = indicePorBloque.ceiling(BLOQUE_MINIMO);
+        }
+
+        return seleccionada;
+    }
+
+    @Override
+    public Lista<SolicitudIO> ordenarCola(ListaCopiaEscritura.Instantanea<SolicitudIO> cola, int posicionCabeza) {
         Lista<SolicitudIO> colaOrdenada = new Lista<>();
 
         // Separar solicitudes
         Lista<SolicitudIO> mayoresOIguales = new Lista<>();
         Lista<SolicitudIO> menores = new Lista<>();
 
-        for (int i = 0; i < cola.getSize(); i++) {
-            SolicitudIO s = cola.get(i);
+        for (SolicitudIO s : cola) {
             if (s.getBloqueDestino() >= posicionCabeza) {
                 mayoresOIguales.insertarFinal(s);
             } else {
@@ -78,65 +93,22 @@ public class CSCAN implements PlanificadorDisco {
         }
 
         // Ordenar ambas listas ascendentemente
-        ordenarAscendente(mayoresOIguales);
-        ordenarAscendente(menores);
+        mayoresOIguales.ordenar(SolicitudIO.POR_BLOQUE);
+        menores.ordenar(SolicitudIO.POR_BLOQUE);
 
         // C-SCAN: primero las mayores (hacia el final), luego las menores (desde
         // inicio)
-        agregarTodos(colaOrdenada, mayoresOIguales);
-        agregarTodos(colaOrdenada, menores);
+        colaOrdenada.concatenar(mayoresOIguales);
+        colaOrdenada.concatenar(menores);
 
         return colaOrdenada;
     }
 
-    /**
-     * Ordena una lista de solicitudes de menor a mayor por bloque (bubble sort)
-     */
-    private void ordenarAscendente(Lista<SolicitudIO> lista) {
-        // Crear una copia ordenada
-        Lista<SolicitudIO> copia = new Lista<>();
-        for (int i = 0; i < lista.getSize(); i++) {
-            copia.insertarFinal(lista.get(i));
-        }
-
-        // Bubble sort en la copia
-        int n = copia.getSize();
-        for (int i = 0; i < n - 1; i++) {
-            for (int j = 0; j < n - 1 - i; j++) {
-                SolicitudIO actual = copia.get(j);
-                SolicitudIO siguiente = copia.get(j + 1);
-
-                if (actual.getBloqueDestino() > siguiente.getBloqueDestino()) {
-                    // Intercambiar: remover ambos y reinsertar en orden correcto
-                    copia.remove(j + 1);
-                    copia.remove(j);
-                    copia.insertarPosicion(j, siguiente);
-                    copia.insertarPosicion(j + 1, actual);
-                }
-            }
-        }
-
-        // Vaciar lista original y copiar los ordenados
-        lista.vaciar();
-        for (int i = 0; i < copia.getSize(); i++) {
-            lista.insertarFinal(copia.get(i));
-        }
-    }
-
-    /**
-     * Agrega todos los elementos de origen a destino
-     */
-    private void agregarTodos(Lista<SolicitudIO> destino, Lista<SolicitudIO> origen) {
-        for (int i = 0; i < origen.getSize(); i++) {
-            destino.insertarFinal(origen.get(i));
-        }
-    }
-
     /**
      * Calcula el movimiento total de la cabeza
      * En C-SCAN, cuando llega al final salta al inicio
      */
-    public int calcularMovimientoTotal(Lista<SolicitudIO> cola, int posicionInicial) {
+    public int calcularMovimientoTotal(ListaCopiaEscritura.Instantanea<SolicitudIO> cola, int posicionInicial) {
         if (cola.isEmpty())
             return 0;
 
@@ -145,8 +117,8 @@ public class CSCAN implements PlanificadorDisco {
         int posActual = posicionInicial;
         boolean saltoAlInicio = false;
 
-        for (int i = 0; i < ordenada.getSize(); i++) {
-            int destino = ordenada.get(i).getBloqueDestino();
+        for (SolicitudIO solicitud : ordenada) {
+            int destino = solicitud.getBloqueDestino();
 
             // Detectar si hubo salto circular (de final a inicio)
             if (!saltoAlInicio && destino < posActual) {
@@ -1,6 +1,8 @@
 package schedulers;
 
 import EDD.Lista;
+import EDD.ListaCopiaEscritura;
+import EDD.Nodo;
 import models.SolicitudIO;
 
 /**
@@ -18,21 +20,21 @@ public class FIFO implements PlanificadorDisco {
     }
 
     @Override
-    public SolicitudIO seleccionarSiguiente(Lista<SolicitudIO> cola, int posicionCabeza) {
+    public Nodo<SolicitudIO> seleccionarNodo(Lista<SolicitudIO> cola, int posicionCabeza) {
         if (cola.isEmpty()) {
             return null;
         }
         // FIFO simplemente toma el primer elemento de la cola
-        return cola.getFirst();
+        return cola.getHead();
     }
 
     @Override
-    public Lista<SolicitudIO> ordenarCola(Lista<SolicitudIO> cola, int posicionCabeza) {
+    public Lista<SolicitudIO> ordenarCola(ListaCopiaEscritura.Instantanea<SolicitudIO> cola, int posicionCabeza) {
         // En FIFO, el orden ya es el correcto (orden de llegada)
         Lista<SolicitudIO> colaOrdenada = new Lista<>();
 
-        for (int i = 0; i < cola.getSize(); i++) {
-            colaOrdenada.insertarFinal(cola.get(i));
+        for (SolicitudIO solicitud : cola) {
+            colaOrdenada.insertarFinal(solicitud);
         }
 
         return colaOrdenada;
@@ -41,12 +43,12 @@ public class FIFO implements PlanificadorDisco {
     /**
      * Calcula el movimiento total de la cabeza para esta cola
      */
-    public int calcularMovimientoTotal(Lista<SolicitudIO> cola, int posicionInicial) {
+    public int calcularMovimientoTotal(ListaCopiaEscritura.Instantanea<SolicitudIO> cola, int posicionInicial) {
         int movimiento = 0;
         int posActual = posicionInicial;
 
-        for (int i = 0; i < cola.getSize(); i++) {
-            int destino = cola.get(i).getBloqueDestino();
+        for (SolicitudIO solicitud : cola) {
+            int destino = solicitud.getBloqueDestino();
             movimiento += Math.abs(destino - posActual);
             posActual = destino;
         }
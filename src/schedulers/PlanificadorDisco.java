@@ -1,6 +1,9 @@
 package schedulers;
 
 import EDD.Lista;
+import EDD.ListaCopiaEscritura;
+import EDD.Nodo;
+import EDD.SkipList;
 import models.SolicitudIO;
 
 /**
@@ -13,6 +16,31 @@ public interface PlanificadorDisco {
      */
     String getNombre();
 
+    /**
+     * Selecciona la siguiente solicitud a atender de la cola y retorna su
+     * nodo, para que quien la atienda pueda quitarla con removeNode en O(1).
+     * 
+     * @param cola           Cola de solicitudes pendientes
+     * @param posicionCabeza Posición actual de la cabeza del disco
+     * @return El nodo de la solicitud seleccionada, o null si la cola está vacía
+     */
+    Nodo<SolicitudIO> seleccionarNodo(Lista<SolicitudIO> cola, int posicionCabeza);
+
+    /**
+     * Igual que seleccionarNodo, pero puede apoyarse en un índice de los
+     * nodos de la cola ordenado por bloque destino para no recorrerla entera.
+     * Por defecto ignora el índice.
+     * 
+     * @param cola            Cola de solicitudes pendientes
+     * @param indicePorBloque Los nodos de cola, con su bloque destino como clave
+     * @param posicionCabeza  Posición actual de la cabeza del disco
+     * @return El nodo de la solicitud seleccionada, o null si la cola está vacía
+     */
+    default Nodo<SolicitudIO> seleccionarNodo(Lista<SolicitudIO> cola,
+            SkipList<Nodo<SolicitudIO>> indicePorBloque, int posicionCabeza) {
+        return seleccionarNodo(cola, posicionCabeza);
+    }
+
     /**
      * Selecciona la siguiente solicitud a atender de la cola.
      * 
@@ -20,15 +48,19 @@ public interface PlanificadorDisco {
      * @param posicionCabeza Posición actual de la cabeza del disco
      * @return La solicitud seleccionada, o null si la cola está vacía
      */
-    SolicitudIO seleccionarSiguiente(Lista<SolicitudIO> cola, int posicionCabeza);
+    default SolicitudIO seleccionarSiguiente(Lista<SolicitudIO> cola, int posicionCabeza) {
+        Nodo<SolicitudIO> nodo = seleccionarNodo(cola, posicionCabeza);
+        return nodo == null ? null : nodo.getData();
+    }
 
     /**
      * Ordena todas las solicitudes según el algoritmo.
-     * Útil para visualizar el orden en que serán atendidas.
+     * Útil para visualizar el orden en que serán atendidas. Lee una
+     * instantánea de la cola, así que no hace falta copiarla antes.
      * 
-     * @param cola           Cola de solicitudes
+     * @param cola           Instantánea de la cola de solicitudes
      * @param posicionCabeza Posición actual de la cabeza
      * @return Nueva lista ordenada según el algoritmo
      */
-    Lista<SolicitudIO> ordenarCola(Lista<SolicitudIO> cola, int posicionCabeza);
+    Lista<SolicitudIO> ordenarCola(ListaCopiaEscritura.Instantanea<SolicitudIO> cola, int posicionCabeza);
 }
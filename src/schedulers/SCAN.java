@@ -1,6 +1,9 @@
 package schedulers;
 
 import EDD.Lista;
+import EDD.ListaCopiaEscritura;
+import EDD.Nodo;
+import EDD.SkipList;
 import models.SolicitudIO;
 
 /**
@@ -26,17 +29,17 @@ public class SCAN implements PlanificadorDisco {
     }
 
     @Override
-    public SolicitudIO seleccionarSiguiente(Lista<SolicitudIO> cola, int posicionCabeza) {
+    public Nodo<SolicitudIO> seleccionarNodo(Lista<SolicitudIO> cola, int posicionCabeza) {
         if (cola.isEmpty()) {
             return null;
         }
 
-        SolicitudIO seleccionada = null;
+        Nodo<SolicitudIO> seleccionada = null;
         int mejorDistancia = Integer.MAX_VALUE;
 
         // Buscar la más cercana en la dirección actual
-        for (int i = 0; i < cola.getSize(); i++) {
-            SolicitudIO solicitud = cola.get(i);
+        for (Nodo<SolicitudIO> nodo = cola.getHead(); nodo != null; nodo = nodo.getNext()) {
+            SolicitudIO solicitud = nodo.getData();
             int bloque = solicitud.getBloqueDestino();
 
             boolean enDireccionCorrecta;
@@ -50,7 +53,7 @@ public class SCAN implements PlanificadorDisco {
                 int distancia = Math.abs(bloque - posicionCabeza);
                 if (distancia < mejorDistancia) {
                     mejorDistancia = distancia;
-                    seleccionada = solicitud;
+                    seleccionada = nodo;
                 }
             }
         }
@@ -61,8 +64,8 @@ public class SCAN implements PlanificadorDisco {
             mejorDistancia = Integer.MAX_VALUE; // Reiniciar para la nueva búsqueda
 
             // Buscar en la nueva dirección (ahora la más cercana en dirección opuesta)
-            for (int i = 0; i < cola.getSize(); i++) {
-                SolicitudIO solicitud = cola.get(i);
+            for (Nodo<SolicitudIO> nodo = cola.getHead(); nodo != null; nodo = nodo.getNext()) {
+                SolicitudIO solicitud = nodo.getData();
                 int bloque = solicitud.getBloqueDestino();
 
                 boolean enDireccionCorrecta;
@@ -76,7 +79,7 @@ public class SCAN implements PlanificadorDisco {
                     int distancia = Math.abs(bloque - posicionCabeza);
                     if (distancia < mejorDistancia) {
                         mejorDistancia = distancia;
-                        seleccionada = solicitud;
+                        seleccionada = nodo;
                     }
                 }
             }
@@ -86,15 +89,41 @@ public class SCAN implements PlanificadorDisco {
     }
 
     @Override
-    public Lista<SolicitudIO> ordenarCola(Lista<SolicitudIO> cola, int posicionCabeza) {
+    public Nodo<SolicitudIO> seleccionarNodo(Lista<SolicitudIO> cola,
+            SkipList<Nodo<SolicitudIO>> indicePorBloque, int posicionCabeza) {
+        if (indicePorBloque.isEmpty()) {
+            return null;
+        }
+
+        // La más cercana en la dirección actual es el ceiling (subiendo) o el floor (bajando)
+        Nodo<SolicitudIO> seleccionada = buscarEnDireccion(indicePorBloque, posicionCabeza);
+
+        // Si no hay solicitudes en la dirección actual, cambiar dirección
+        if (seleccionada == null) {
+            direccionAscendente = !direccionAscendente;
+            seleccionada = buscarEnDireccion(indicePorBloque, posicionCabeza);
+        }
+
+        return seleccionada;
+    }
+
+    private Nodo<SolicitudIO> buscarEnDireccion(SkipList<Nodo<SolicitudIO>> indicePorBloque,
+            int posicionCabeza) {
+        if (direccionAscendente) {
+            return indicePorBloque.ceiling(posicionCabeza);
+        }
+        return indicePorBloque.floor(posicionCabeza);
+    }
+
+    @Override
+    public Lista<SolicitudIO> ordenarCola(ListaCopiaEscritura.Instantanea<SolicitudIO> cola, int posicionCabeza) {
         Lista<SolicitudIO> colaOrdenada = new Lista<>();
 
         // Separar solicitudes en dos grupos: mayores y menores que la cabeza
         Lista<SolicitudIO> mayores = new Lista<>();
         Lista<SolicitudIO> menores = new Lista<>();
 
-        for (int i = 0; i < cola.getSize(); i++) {
-            SolicitudIO s = cola.get(i);
+        for (SolicitudIO s : cola) {
             if (s.getBloqueDestino() >= posicionCabeza) {
                 mayores.insertarFinal(s);
             } else {
@@ -103,82 +132,32 @@ public class SCAN implements PlanificadorDisco {
         }
 
         // Ordenar mayores de menor a mayor (ascendente)
-        ordenarPorBloque(mayores, true);
+        mayores.ordenar(SolicitudIO.POR_BLOQUE);
         // Ordenar menores de mayor a menor (descendente)
-        ordenarPorBloque(menores, false);
+        menores.ordenar(SolicitudIO.POR_BLOQUE.reversed());
 
         // Si dirección es ascendente: primero mayores, luego menores
         if (direccionAscendente) {
-            agregarTodos(colaOrdenada, mayores);
-            agregarTodos(colaOrdenada, menores);
+            colaOrdenada.concatenar(mayores);
+            colaOrdenada.concatenar(menores);
         } else {
-            agregarTodos(colaOrdenada, menores);
-            agregarTodos(colaOrdenada, mayores);
+            colaOrdenada.concatenar(menores);
+            colaOrdenada.concatenar(mayores);
         }
 
         return colaOrdenada;
     }
 
-    /**
-     * Ordena una lista de solicitudes por número de bloque usando bubble sort
-     * 
-     * @param lista      Lista a ordenar
-     * @param ascendente true para orden ascendente, false para descendente
-     */
-    private void ordenarPorBloque(Lista<SolicitudIO> lista, boolean ascendente) {
-        // Crear una copia ordenada
-        Lista<SolicitudIO> copia = new Lista<>();
-        for (int i = 0; i < lista.getSize(); i++) {
-            copia.insertarFinal(lista.get(i));
-        }
-
-        // Bubble sort en la copia usando índices
-        int n = copia.getSize();
-        for (int i = 0; i < n - 1; i++) {
-            for (int j = 0; j < n - 1 - i; j++) {
-                SolicitudIO actual = copia.get(j);
-                SolicitudIO siguiente = copia.get(j + 1);
-
-                boolean debeIntercambiar = ascendente
-                        ? (actual.getBloqueDestino() > siguiente.getBloqueDestino())
-                        : (actual.getBloqueDestino() < siguiente.getBloqueDestino());
-
-                if (debeIntercambiar) {
-                    // Intercambiar: remover ambos y reinsertar en orden correcto
-                    copia.remove(j + 1);
-                    copia.remove(j);
-                    copia.insertarPosicion(j, siguiente);
-                    copia.insertarPosicion(j + 1, actual);
-                }
-            }
-        }
-
-        // Vaciar lista original y copiar los ordenados
-        lista.vaciar();
-        for (int i = 0; i < copia.getSize(); i++) {
-            lista.insertarFinal(copia.get(i));
-        }
-    }
-
-    /**
-     * Agrega todos los elementos de origen a destino
-     */
-    private void agregarTodos(Lista<SolicitudIO> destino, Lista<SolicitudIO> origen) {
-        for (int i = 0; i < origen.getSize(); i++) {
-            destino.insertarFinal(origen.get(i));
-        }
-    }
-
     /**
      * Calcula el movimiento total de la cabeza
      */
-    public int calcularMovimientoTotal(Lista<SolicitudIO> cola, int posicionInicial) {
+    public int calcularMovimientoTotal(ListaCopiaEscritura.Instantanea<SolicitudIO> cola, int posicionInicial) {
         Lista<SolicitudIO> ordenada = ordenarCola(cola, posicionInicial);
         int movimiento = 0;
         int posActual = posicionInicial;
 
-        for (int i = 0; i < ordenada.getSize(); i++) {
-            int destino = ordenada.get(i).getBloqueDestino();
+        for (SolicitudIO solicitud : ordenada) {
+            int destino = solicitud.getBloqueDestino();
             movimiento += Math.abs(destino - posActual);
             posActual = destino;
         }
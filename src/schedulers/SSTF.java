@@ -1,6 +1,9 @@
 package schedulers;
 
 import EDD.Lista;
+import EDD.ListaCopiaEscritura;
+import EDD.Nodo;
+import EDD.SkipList;
 import models.SolicitudIO;
 
 /**
@@ -18,21 +21,21 @@ public class SSTF implements PlanificadorDisco {
     }
 
     @Override
-    public SolicitudIO seleccionarSiguiente(Lista<SolicitudIO> cola, int posicionCabeza) {
+    public Nodo<SolicitudIO> seleccionarNodo(Lista<SolicitudIO> cola, int posicionCabeza) {
         if (cola.isEmpty()) {
             return null;
         }
 
-        SolicitudIO masCercana = null;
+        Nodo<SolicitudIO> masCercana = null;
         int distanciaMinima = Integer.MAX_VALUE;
 
-        for (int i = 0; i < cola.getSize(); i++) {
-            SolicitudIO solicitud = cola.get(i);
+        for (Nodo<SolicitudIO> nodo = cola.getHead(); nodo != null; nodo = nodo.getNext()) {
+            SolicitudIO solicitud = nodo.getData();
             int distancia = Math.abs(solicitud.getBloqueDestino() - posicionCabeza);
 
             if (distancia < distanciaMinima) {
                 distanciaMinima = distancia;
-                masCercana = solicitud;
+                masCercana = nodo;
             }
         }
 
@@ -40,18 +43,62 @@ public class SSTF implements PlanificadorDisco {
     }
 
     @Override
-    public Lista<SolicitudIO> ordenarCola(Lista<SolicitudIO> cola, int posicionCabeza) {
-        Lista<SolicitudIO> colaOrdenada = new Lista<>();
-        Lista<SolicitudIO> copiaCola = copiarLista(cola);
+    public Nodo<SolicitudIO> seleccionarNodo(Lista<SolicitudIO> cola,
+            SkipList<Nodo<SolicitudIO>> indicePorBloque, int posicionCabeza) {
+        // La más cercana es la primera por encima o la primera por debajo
+        Nodo<SolicitudIO> arriba = indicePorBloque.ceiling(posicionCabeza);
+        Nodo<SolicitudIO> abajo = indicePorBloque.floor(posicionCabeza);
+        if (arriba == null) {
+            return abajo;
+        }
+        if (abajo == null) {
+            return arriba;
+        }
 
-        int cabezaSimulada = posicionCabeza;
+        int distanciaArriba = arriba.getData().getBloqueDestino() - posicionCabeza;
+        int distanciaAbajo = posicionCabeza - abajo.getData().getBloqueDestino();
+        if (distanciaArriba != distanciaAbajo) {
+            return distanciaArriba < distanciaAbajo ? arriba : abajo;
+        }
+        // Empate: la que se creó primero, como en el recorrido de la cola
+        return arriba.getData().getId() <= abajo.getData().getId() ? arriba : abajo;
+    }
+
+    @Override
+    public Lista<SolicitudIO> ordenarCola(ListaCopiaEscritura.Instantanea<SolicitudIO> cola, int posicionCabeza) {
+        // Ordenadas por bloque, las que faltan por atender quedan siempre en
+        // dos tramos, uno a cada lado de la cabeza, así que la más cercana es
+        // la primera de arriba o la última de abajo
+        Lista<SolicitudIO> porBloque = new Lista<>();
+        for (SolicitudIO solicitud : cola) {
+            porBloque.insertarFinal(solicitud);
+        }
+        porBloque.ordenar(SolicitudIO.POR_BLOQUE);
+
+        Nodo<SolicitudIO> arriba = porBloque.getHead();
+        while (arriba != null && arriba.getData().getBloqueDestino() < posicionCabeza) {
+            arriba = arriba.getNext();
+        }
+        Nodo<SolicitudIO> abajo = arriba == null ? porBloque.getTail() : arriba.getPrevious();
+        Nodo<SolicitudIO> inicioAbajo = inicioDelBloque(abajo);
 
-        while (!copiaCola.isEmpty()) {
-            SolicitudIO siguiente = seleccionarSiguiente(copiaCola, cabezaSimulada);
-            if (siguiente != null) {
-                colaOrdenada.insertarFinal(siguiente);
-                cabezaSimulada = siguiente.getBloqueDestino();
-                copiaCola.remove(siguiente);
+        // Las de un mismo bloque se atienden seguidas, en orden de llegada
+        Lista<SolicitudIO> colaOrdenada = new Lista<>();
+        int cabezaSimulada = posicionCabeza;
+        while (arriba != null || abajo != null) {
+            if (abajo == null || (arriba != null && vaPrimero(arriba, inicioAbajo, cabezaSimulada))) {
+                cabezaSimulada = arriba.getData().getBloqueDestino();
+                while (arriba != null && arriba.getData().getBloqueDestino() == cabezaSimulada) {
+                    colaOrdenada.insertarFinal(arriba.getData());
+                    arriba = arriba.getNext();
+                }
+            } else {
+                cabezaSimulada = abajo.getData().getBloqueDestino();
+                for (Nodo<SolicitudIO> nodo = inicioAbajo; nodo != abajo.getNext(); nodo = nodo.getNext()) {
+                    colaOrdenada.insertarFinal(nodo.getData());
+                }
+                abajo = inicioAbajo.getPrevious();
+                inicioAbajo = inicioDelBloque(abajo);
             }
         }
 
@@ -59,26 +106,43 @@ public class SSTF implements PlanificadorDisco {
     }
 
     /**
-     * Crea una copia de la lista de solicitudes
+     * Primer nodo, en orden de llegada, con el mismo bloque destino que el
+     * dado (la lista está ordenada por bloque de forma estable)
+     */
+    private Nodo<SolicitudIO> inicioDelBloque(Nodo<SolicitudIO> nodo) {
+        if (nodo == null) {
+            return null;
+        }
+        int bloque = nodo.getData().getBloqueDestino();
+        while (nodo.getPrevious() != null && nodo.getPrevious().getData().getBloqueDestino() == bloque) {
+            nodo = nodo.getPrevious();
+        }
+        return nodo;
+    }
+
+    /**
+     * Si la solicitud de arriba se atiende antes que la de abajo: la más
+     * cercana y, a igual distancia, la que se creó primero
      */
-    private Lista<SolicitudIO> copiarLista(Lista<SolicitudIO> original) {
-        Lista<SolicitudIO> copia = new Lista<>();
-        for (int i = 0; i < original.getSize(); i++) {
-            copia.insertarFinal(original.get(i));
+    private boolean vaPrimero(Nodo<SolicitudIO> arriba, Nodo<SolicitudIO> abajo, int posicionCabeza) {
+        int distanciaArriba = arriba.getData().getBloqueDestino() - posicionCabeza;
+        int distanciaAbajo = posicionCabeza - abajo.getData().getBloqueDestino();
+        if (distanciaArriba != distanciaAbajo) {
+            return distanciaArriba < distanciaAbajo;
         }
-        return copia;
+        return arriba.getData().getId() <= abajo.getData().getId();
     }
 
     /**
      * Calcula el movimiento total de la cabeza para esta cola
      */
-    public int calcularMovimientoTotal(Lista<SolicitudIO> cola, int posicionInicial) {
+    public int calcularMovimientoTotal(ListaCopiaEscritura.Instantanea<SolicitudIO> cola, int posicionInicial) {
         Lista<SolicitudIO> ordenada = ordenarCola(cola, posicionInicial);
         int movimiento = 0;
         int posActual = posicionInicial;
 
-        for (int i = 0; i < ordenada.getSize(); i++) {
-            int destino = ordenada.get(i).getBloqueDestino();
+        for (SolicitudIO solicitud : ordenada) {
+            int destino = solicitud.getBloqueDestino();
             movimiento += Math.abs(destino - posActual);
             posActual = destino;
         }